@@ -0,0 +1,26 @@
+package com.pcpedia.api.billing.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgingBucketsResponse {
+
+    private Long userId;
+    private String userName;
+    private String companyName;
+    private BigDecimal current;
+    private BigDecimal days0To30;
+    private BigDecimal days31To60;
+    private BigDecimal days61To90;
+    private BigDecimal over90Days;
+    private BigDecimal totalOutstanding;
+    private Long invoiceCount;
+}
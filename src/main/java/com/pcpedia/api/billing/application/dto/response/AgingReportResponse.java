@@ -0,0 +1,20 @@
+package com.pcpedia.api.billing.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgingReportResponse {
+
+    private LocalDate asOf;
+    private AgingBucketsResponse totals;
+    private Page<AgingBucketsResponse> clients;
+}
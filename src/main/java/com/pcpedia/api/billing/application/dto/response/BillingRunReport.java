@@ -0,0 +1,24 @@
+package com.pcpedia.api.billing.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BillingRunReport {
+    private String period;
+    private int partitions;
+    private int invoicesCreated;
+    private BigDecimal amountBilled;
+    @Builder.Default
+    private List<String> failedPartitions = new ArrayList<>();   // "fromId-toId" ranges to retry
+    private long durationMs;
+}
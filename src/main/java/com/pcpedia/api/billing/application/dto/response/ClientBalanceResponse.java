@@ -0,0 +1,20 @@
+package com.pcpedia.api.billing.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientBalanceResponse {
+
+    private Long userId;
+    private BigDecimal balance;
+    private LocalDateTime updatedAt;
+}
@@ -25,6 +25,7 @@ public class InvoiceResponse {
     private LocalDate issueDate;
     private LocalDate dueDate;
     private BigDecimal amount;
+    private BigDecimal lateFee;
     private BigDecimal paidAmount;
     private BigDecimal pendingAmount;
     private String status;
@@ -0,0 +1,28 @@
+package com.pcpedia.api.billing.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerEntryResponse {
+
+    private Long id;
+    private Long invoiceId;
+    private String entryType;
+    private String debitAccount;
+    private String creditAccount;
+    private BigDecimal amount;
+    private BigDecimal balanceAfter;
+    private String reference;
+    private LocalDate entryDate;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,29 @@
+package com.pcpedia.api.billing.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentReviewItemResponse {
+
+    private Long id;
+    private String sourceFile;
+    private Integer lineNumber;
+    private LocalDate paymentDate;
+    private BigDecimal amount;
+    private String reference;
+    private String description;
+    private String reason;
+    private Long invoiceId;
+    private Boolean resolved;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,23 @@
+package com.pcpedia.api.billing.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatementImportReport {
+
+    private String fileName;
+    private int linesRead;
+    private int paymentsRegistered;
+    private BigDecimal amountRegistered;
+    private int invoicesPaid;
+    private int queuedForReview;
+    private long durationMs;
+}
@@ -0,0 +1,182 @@
+package com.pcpedia.api.billing.application.service;
+
+import com.pcpedia.api.billing.application.dto.response.BillingRunReport;
+import com.pcpedia.api.billing.domain.model.aggregate.Invoice;
+import com.pcpedia.api.billing.domain.model.entity.LedgerEntry;
+import com.pcpedia.api.billing.domain.model.enums.InvoiceStatus;
+import com.pcpedia.api.billing.domain.repository.InvoiceRepository;
+import com.pcpedia.api.billing.infrastructure.InvoiceBatchWriter;
+import com.pcpedia.api.sales.domain.model.enums.ContractStatus;
+import com.pcpedia.api.sales.domain.repository.ContractRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Generates the monthly invoice of every ACTIVE contract for a billing period.
+ *
+ * The active id range is split into fixed-width partitions that worker threads bill in parallel, each
+ * in its own transaction with a single batched insert. Contracts already invoiced for the period are
+ * filtered out and (contract_id, billing_period) is unique, so re-running a period, or retrying the
+ * partitions that failed, only fills the gaps. Each partition posts its invoices to the ledger in the
+ * same transaction.
+ */
+@Service
+@Slf4j
+public class BillingRunService {
+
+    private final InvoiceRepository invoiceRepository;
+    private final ContractRepository contractRepository;
+    private final InvoiceBatchWriter invoiceBatchWriter;
+    private final LedgerService ledgerService;
+    private final TransactionTemplate transactionTemplate;
+    private final MessageSource messageSource;
+
+    private final Counter createdCounter;
+    private final Counter failedCounter;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${billing.run.partition-size:500}")
+    private int partitionSize;
+
+    @Value("${billing.run.workers:4}")
+    private int workers;
+
+    @Value("${billing.run.due-days:15}")
+    private int dueDays;
+
+    public BillingRunService(InvoiceRepository invoiceRepository,
+                             ContractRepository contractRepository,
+                             InvoiceBatchWriter invoiceBatchWriter,
+                             LedgerService ledgerService,
+                             TransactionTemplate transactionTemplate,
+                             MessageSource messageSource,
+                             MeterRegistry meterRegistry) {
+        this.invoiceRepository = invoiceRepository;
+        this.contractRepository = contractRepository;
+        this.invoiceBatchWriter = invoiceBatchWriter;
+        this.ledgerService = ledgerService;
+        this.transactionTemplate = transactionTemplate;
+        this.messageSource = messageSource;
+        this.createdCounter = meterRegistry.counter("billing.run.invoices.created");
+        this.failedCounter = meterRegistry.counter("billing.run.partitions.failed");
+    }
+
+    public BillingRunReport run(YearMonth period) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException(getMessage("billing.run.in-progress"));
+        }
+        try {
+            return doRun(period);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private BillingRunReport doRun(YearMonth period) {
+        long startedAt = System.currentTimeMillis();
+        BillingRunReport report = BillingRunReport.builder()
+                .period(period.toString())
+                .amountBilled(BigDecimal.ZERO)
+                .build();
+
+        Long minId = contractRepository.findMinIdByStatus(ContractStatus.ACTIVE);
+        Long maxId = contractRepository.findMaxIdByStatus(ContractStatus.ACTIVE);
+        if (minId == null) {
+            report.setDurationMs(System.currentTimeMillis() - startedAt);
+            return report;
+        }
+
+        List<long[]> ranges = new ArrayList<>();
+        for (long from = minId; from <= maxId; from += partitionSize) {
+            ranges.add(new long[]{from, Math.min(from + partitionSize - 1, maxId)});
+        }
+        report.setPartitions(ranges.size());
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, workers))) {
+            List<Future<List<Invoice>>> futures = new ArrayList<>();
+            for (long[] range : ranges) {
+                futures.add(executor.submit(() -> transactionTemplate.execute(status ->
+                        billPartition(period, range[0], range[1]))));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                String label = ranges.get(i)[0] + "-" + ranges.get(i)[1];
+                try {
+                    List<Invoice> created = futures.get(i).get();
+                    report.setInvoicesCreated(report.getInvoicesCreated() + created.size());
+                    report.setAmountBilled(created.stream()
+                            .map(Invoice::getAmount)
+                            .reduce(report.getAmountBilled(), BigDecimal::add));
+                    createdCounter.increment(created.size());
+                } catch (ExecutionException e) {
+                    report.getFailedPartitions().add(label);
+                    failedCounter.increment();
+                    log.error("Facturacion {}: fallo la particion de contratos {}", period, label, e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    report.getFailedPartitions().add(label);
+                }
+            }
+        }
+
+        report.setDurationMs(System.currentTimeMillis() - startedAt);
+        return report;
+    }
+
+    private List<Invoice> billPartition(YearMonth period, long fromId, long toId) {
+        LocalDate issueDate = period.atDay(1);
+        List<Invoice> invoices = new ArrayList<>();
+        for (Object[] row : invoiceRepository.findUnbilledActiveContracts(fromId, toId, period.atEndOfMonth(), period.toString())) {
+            Long contractId = (Long) row[0];
+            invoices.add(Invoice.builder()
+                    .contractId(contractId)
+                    .userId((Long) row[1])
+                    .amount((BigDecimal) row[2])
+                    .invoiceNumber(Invoice.generatePeriodInvoiceNumber(period, contractId))
+                    .issueDate(issueDate)
+                    .dueDate(issueDate.plusDays(dueDays))
+                    .billingPeriod(period.toString())
+                    .description("Alquiler mensual " + period)
+                    .status(InvoiceStatus.PENDING)
+                    .build());
+        }
+        invoiceBatchWriter.insertAll(invoices);
+        postIssued(invoices);
+        return invoices;
+    }
+
+    private void postIssued(List<Invoice> invoices) {
+        if (invoices.isEmpty()) {
+            return;
+        }
+        Map<String, Long> ids = new HashMap<>();
+        for (Object[] row : invoiceRepository.findIdsByInvoiceNumberIn(invoices.stream().map(Invoice::getInvoiceNumber).toList())) {
+            ids.put((String) row[0], (Long) row[1]);
+        }
+        invoices.forEach(i -> i.setId(ids.get(i.getInvoiceNumber())));
+        ledgerService.postAll(invoices.stream().map(LedgerEntry::invoiceIssued).toList());
+    }
+
+    private String getMessage(String key) {
+        return messageSource.getMessage(key, null, key, LocaleContextHolder.getLocale());
+    }
+}
@@ -1,28 +1,43 @@
 package com.pcpedia.api.billing.application.service;
 
 import com.pcpedia.api.billing.application.dto.request.CreateInvoiceRequest;
+import com.pcpedia.api.billing.application.dto.response.AgingBucketsResponse;
+import com.pcpedia.api.billing.application.dto.response.AgingReportResponse;
 import com.pcpedia.api.billing.application.dto.response.InvoiceResponse;
 import com.pcpedia.api.billing.domain.model.aggregate.Invoice;
+import com.pcpedia.api.billing.domain.model.entity.LedgerEntry;
 import com.pcpedia.api.billing.domain.model.enums.InvoiceStatus;
 import com.pcpedia.api.billing.domain.repository.InvoiceRepository;
-import com.pcpedia.api.billing.domain.repository.PaymentRepository;
 import com.pcpedia.api.iam.domain.model.aggregate.User;
 import com.pcpedia.api.iam.domain.repository.UserRepository;
 import com.pcpedia.api.sales.domain.model.aggregate.Contract;
 import com.pcpedia.api.sales.domain.repository.ContractRepository;
+import com.pcpedia.api.shared.application.pagination.CursorPage;
+import com.pcpedia.api.shared.application.pagination.KeysetCursor;
 import com.pcpedia.api.shared.infrastructure.exception.BadRequestException;
 import com.pcpedia.api.shared.infrastructure.exception.ForbiddenException;
 import com.pcpedia.api.shared.infrastructure.exception.ResourceNotFoundException;
+import com.pcpedia.api.shared.infrastructure.export.ExportFormat;
+import com.pcpedia.api.shared.infrastructure.export.StreamingExporter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -30,17 +45,22 @@ import java.time.LocalDate;
 public class InvoiceService {
 
     private final InvoiceRepository invoiceRepository;
-    private final PaymentRepository paymentRepository;
     private final ContractRepository contractRepository;
     private final UserRepository userRepository;
+    private final LedgerService ledgerService;
+    private final StreamingExporter streamingExporter;
     private final MessageSource messageSource;
 
+    // Share of the outstanding amount added to an invoice once when it goes overdue; 0 disables late fees
+    @Value("${billing.ledger.late-fee-rate:0}")
+    private BigDecimal lateFeeRate;
+
     public Long createInvoice(CreateInvoiceRequest dto) {
         Contract contract = contractRepository.findById(dto.getContractId())
                 .orElseThrow(() -> new ResourceNotFoundException(getMessage("contract.not.found")));
 
         // Check if contract already has an active invoice
-        if (invoiceRepository.existsByContractIdAndStatusNot(dto.getContractId(), InvoiceStatus.CANCELLED)) {
+        if (invoiceRepository.existsByContractIdAndBillingPeriodIsNullAndStatusNot(dto.getContractId(), InvoiceStatus.CANCELLED)) {
             throw new BadRequestException("Este contrato ya tiene una factura activa. No se puede crear otra.");
         }
 
@@ -56,6 +76,7 @@ public class InvoiceService {
                 .build();
 
         Invoice savedInvoice = invoiceRepository.save(invoice);
+        ledgerService.post(LedgerEntry.invoiceIssued(savedInvoice));
         return savedInvoice.getId();
     }
 
@@ -82,41 +103,63 @@ public class InvoiceService {
         return invoices.map(this::toResponse);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<InvoiceResponse> getInvoicesAfter(String after, int size, Long userId, boolean isAdmin) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        List<Invoice> rows;
+        if (isAdmin) {
+            rows = invoiceRepository.findPageAfter(cursor.getCreatedAt(), cursor.getId(), CursorPage.probe(size));
+        } else {
+            rows = invoiceRepository.findPageByUserIdAfter(userId, cursor.getCreatedAt(), cursor.getId(), CursorPage.probe(size));
+        }
+        return CursorPage.of(rows, size, i -> new KeysetCursor(i.getCreatedAt(), i.getId()), this::toResponse);
+    }
+
     public void cancelInvoice(Long invoiceId) {
-        Invoice invoice = invoiceRepository.findById(invoiceId)
+        Invoice invoice = invoiceRepository.findByIdForUpdate(invoiceId)
                 .orElseThrow(() -> new ResourceNotFoundException(getMessage("invoice.not.found")));
 
         if (invoice.getStatus() == InvoiceStatus.PAID) {
             throw new BadRequestException("No se puede cancelar una factura ya pagada");
         }
 
+        BigDecimal outstanding = invoice.isPending() ? invoice.getOutstanding() : BigDecimal.ZERO;
         invoice.cancel();
-        invoiceRepository.save(invoice);
+        invoiceRepository.saveAndFlush(invoice);
+        ledgerService.post(LedgerEntry.invoiceCancelled(invoice, outstanding));
     }
 
     public InvoiceResponse markAsPaid(Long invoiceId, String paymentReference) {
-        Invoice invoice = invoiceRepository.findById(invoiceId)
+        Invoice invoice = invoiceRepository.findByIdForUpdate(invoiceId)
                 .orElseThrow(() -> new ResourceNotFoundException(getMessage("invoice.not.found")));
 
         if (!invoice.isPending()) {
             throw new BadRequestException("Solo se pueden marcar como pagadas las facturas pendientes o vencidas");
         }
 
+        BigDecimal outstanding = invoice.getOutstanding();
         invoice.markAsPaid();
-        invoiceRepository.save(invoice);
+        invoiceRepository.saveAndFlush(invoice);
+        ledgerService.post(LedgerEntry.paymentReceived(invoice.getUserId(), invoice.getId(), outstanding,
+                paymentReference, LocalDate.now()));
         return toResponse(invoice);
     }
 
     public InvoiceResponse markAsOverdue(Long invoiceId) {
-        Invoice invoice = invoiceRepository.findById(invoiceId)
+        Invoice invoice = invoiceRepository.findByIdForUpdate(invoiceId)
                 .orElseThrow(() -> new ResourceNotFoundException(getMessage("invoice.not.found")));
 
         if (invoice.getStatus() != InvoiceStatus.PENDING) {
             throw new BadRequestException("Solo se pueden marcar como vencidas las facturas pendientes");
         }
 
+        BigDecimal lateFee = invoice.getOutstanding()
+                .multiply(lateFeeRate)
+                .setScale(2, RoundingMode.HALF_UP);
         invoice.setStatus(InvoiceStatus.OVERDUE);
-        invoiceRepository.save(invoice);
+        invoice.chargeLateFee(lateFee);
+        invoiceRepository.saveAndFlush(invoice);
+        ledgerService.post(LedgerEntry.lateFee(invoice, lateFee));
         return toResponse(invoice);
     }
 
@@ -128,10 +171,49 @@ public class InvoiceService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public AgingReportResponse getAgingReport(LocalDate asOf, Pageable pageable) {
+        LocalDate cutoff30 = asOf.minusDays(30);
+        LocalDate cutoff60 = asOf.minusDays(60);
+        LocalDate cutoff90 = asOf.minusDays(90);
+
+        Page<Object[]> rows = invoiceRepository.findAgingByUser(asOf, cutoff30, cutoff60, cutoff90, pageable);
+        List<Long> userIds = rows.getContent().stream().map(row -> (Long) row[0]).toList();
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        Page<AgingBucketsResponse> clients = rows.map(row -> {
+            AgingBucketsResponse buckets = toAgingBuckets(row, 1);
+            User user = users.get((Long) row[0]);
+            buckets.setUserId((Long) row[0]);
+            buckets.setUserName(user != null ? user.getName() : null);
+            buckets.setCompanyName(user != null ? user.getCompanyName() : null);
+            return buckets;
+        });
+
+        List<Object[]> totals = invoiceRepository.findAgingTotals(asOf, cutoff30, cutoff60, cutoff90);
+        return AgingReportResponse.builder()
+                .asOf(asOf)
+                .totals(toAgingBuckets(totals.get(0), 0))
+                .clients(clients)
+                .build();
+    }
+
+    // The exporter opens its own read-only transaction when the response body is written
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StreamingResponseBody exportInvoices(ExportFormat format) {
+        return streamingExporter.export(format,
+                List.of("id", "invoiceNumber", "contractId", "userId", "billingPeriod", "issueDate", "dueDate",
+                        "amount", "status", "createdAt"),
+                invoiceRepository::streamAllForExport,
+                i -> Arrays.asList(i.getId(), i.getInvoiceNumber(), i.getContractId(), i.getUserId(), i.getBillingPeriod(),
+                        i.getIssueDate(), i.getDueDate(), i.getAmount(), i.getStatus(), i.getCreatedAt()));
+    }
+
     private InvoiceResponse toResponse(Invoice invoice) {
         User user = userRepository.findById(invoice.getUserId()).orElse(null);
         Contract contract = contractRepository.findById(invoice.getContractId()).orElse(null);
-        BigDecimal paidAmount = paymentRepository.sumAmountByInvoiceId(invoice.getId());
+        BigDecimal paidAmount = invoice.getPaidAmount();
 
         return InvoiceResponse.builder()
                 .id(invoice.getId())
@@ -144,14 +226,41 @@ public class InvoiceService {
                 .issueDate(invoice.getIssueDate())
                 .dueDate(invoice.getDueDate())
                 .amount(invoice.getAmount())
+                .lateFee(invoice.getLateFee())
                 .paidAmount(paidAmount)
-                .pendingAmount(invoice.getAmount().subtract(paidAmount))
+                .pendingAmount(invoice.getOutstanding())
                 .status(invoice.getStatus().name())
                 .description(invoice.getDescription())
                 .createdAt(invoice.getCreatedAt())
                 .build();
     }
 
+    // Reads the five bucket sums and the invoice count starting at column offset
+    private AgingBucketsResponse toAgingBuckets(Object[] row, int offset) {
+        BigDecimal current = decimal(row[offset]);
+        BigDecimal days0To30 = decimal(row[offset + 1]);
+        BigDecimal days31To60 = decimal(row[offset + 2]);
+        BigDecimal days61To90 = decimal(row[offset + 3]);
+        BigDecimal over90Days = decimal(row[offset + 4]);
+        return AgingBucketsResponse.builder()
+                .current(current)
+                .days0To30(days0To30)
+                .days31To60(days31To60)
+                .days61To90(days61To90)
+                .over90Days(over90Days)
+                .totalOutstanding(current.add(days0To30).add(days31To60).add(days61To90).add(over90Days))
+                .invoiceCount(((Number) row[offset + 5]).longValue())
+                .build();
+    }
+
+    // SUM over no rows is NULL, and CASE ... ELSE 0 may come back as a non-BigDecimal number
+    private static BigDecimal decimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+
     private String getMessage(String key) {
         return messageSource.getMessage(key, null, key, LocaleContextHolder.getLocale());
     }
@@ -0,0 +1,138 @@
+package com.pcpedia.api.billing.application.service;
+
+import com.pcpedia.api.billing.application.dto.response.ClientBalanceResponse;
+import com.pcpedia.api.billing.application.dto.response.LedgerEntryResponse;
+import com.pcpedia.api.billing.domain.model.entity.ClientBalance;
+import com.pcpedia.api.billing.domain.model.entity.LedgerEntry;
+import com.pcpedia.api.billing.domain.repository.ClientBalanceRepository;
+import com.pcpedia.api.billing.domain.repository.LedgerEntryRepository;
+import com.pcpedia.api.billing.infrastructure.LedgerBatchWriter;
+import com.pcpedia.api.shared.application.pagination.CursorPage;
+import com.pcpedia.api.shared.application.pagination.KeysetCursor;
+import com.pcpedia.api.shared.infrastructure.exception.ForbiddenException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Posts billing events to the append-only ledger and keeps client_balances in step with it.
+ *
+ * Every posting runs in the caller's transaction: the clients' balance rows are locked, each entry gets
+ * the running balance it leaves behind, and entries and new balances are written as JDBC batches.
+ * Balance and statement reads are then a primary key lookup and an index seek.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class LedgerService {
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final ClientBalanceRepository clientBalanceRepository;
+    private final LedgerBatchWriter ledgerBatchWriter;
+    private final MessageSource messageSource;
+
+    public void post(LedgerEntry entry) {
+        postAll(List.of(entry));
+    }
+
+    public void postAll(Collection<LedgerEntry> entries) {
+        List<LedgerEntry> postings = entries.stream()
+                .filter(e -> e.getAmount() != null && e.getAmount().signum() > 0)
+                .toList();
+        if (postings.isEmpty()) {
+            return;
+        }
+
+        TreeSet<Long> userIds = new TreeSet<>();
+        postings.forEach(e -> userIds.add(e.getUserId()));
+        Map<Long, BigDecimal> balances = ledgerBatchWriter.lockBalances(userIds);
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, BigDecimal> updated = new LinkedHashMap<>();
+        for (LedgerEntry entry : postings) {
+            BigDecimal balance = updated.getOrDefault(entry.getUserId(), balances.get(entry.getUserId()))
+                    .add(entry.receivableDelta());
+            updated.put(entry.getUserId(), balance);
+            entry.setBalanceAfter(balance);
+            entry.setCreatedAt(now);
+        }
+
+        ledgerBatchWriter.insertEntries(postings);
+        ledgerBatchWriter.updateBalances(updated);
+    }
+
+    @Transactional(readOnly = true)
+    public ClientBalanceResponse getBalance(Long userId, Long currentUserId, boolean isAdmin) {
+        checkAccess(userId, currentUserId, isAdmin);
+        ClientBalance balance = clientBalanceRepository.findById(userId)
+                .orElseGet(() -> ClientBalance.builder().userId(userId).build());
+        return ClientBalanceResponse.builder()
+                .userId(balance.getUserId())
+                .balance(balance.getBalance())
+                .updatedAt(balance.getUpdatedAt())
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<LedgerEntryResponse> getStatement(Long userId, String after, int size,
+                                                        Long currentUserId, boolean isAdmin) {
+        checkAccess(userId, currentUserId, isAdmin);
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        List<LedgerEntry> rows = ledgerEntryRepository.findStatementPage(userId, cursor.getId(), CursorPage.probe(size));
+        return CursorPage.of(rows, size, e -> new KeysetCursor(e.getCreatedAt(), e.getId()), this::toResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public BigDecimal getTotalReceivable() {
+        return clientBalanceRepository.sumBalances();
+    }
+
+    /**
+     * Seeds the ledger from outstanding invoices the first time it runs against existing data.
+     *
+     * @return entries posted, 0 when the ledger already had history
+     */
+    public int openIfEmpty() {
+        if (ledgerEntryRepository.hasEntries() > 0) {
+            return 0;
+        }
+        int posted = ledgerEntryRepository.postOpeningBalances();
+        clientBalanceRepository.rebuildAll();
+        return posted;
+    }
+
+    private void checkAccess(Long userId, Long currentUserId, boolean isAdmin) {
+        if (!isAdmin && !userId.equals(currentUserId)) {
+            throw new ForbiddenException(getMessage("auth.access.denied"));
+        }
+    }
+
+    private LedgerEntryResponse toResponse(LedgerEntry entry) {
+        return LedgerEntryResponse.builder()
+                .id(entry.getId())
+                .invoiceId(entry.getInvoiceId())
+                .entryType(entry.getEntryType().name())
+                .debitAccount(entry.getDebitAccount().name())
+                .creditAccount(entry.getCreditAccount().name())
+                .amount(entry.getAmount())
+                .balanceAfter(entry.getBalanceAfter())
+                .reference(entry.getReference())
+                .entryDate(entry.getEntryDate())
+                .createdAt(entry.getCreatedAt())
+                .build();
+    }
+
+    private String getMessage(String key) {
+        return messageSource.getMessage(key, null, key, LocaleContextHolder.getLocale());
+    }
+}
@@ -0,0 +1,299 @@
+package com.pcpedia.api.billing.application.service;
+
+import com.pcpedia.api.billing.application.dto.response.PaymentReviewItemResponse;
+import com.pcpedia.api.billing.application.dto.response.StatementImportReport;
+import com.pcpedia.api.billing.domain.model.aggregate.Invoice;
+import com.pcpedia.api.billing.domain.model.aggregate.Payment;
+import com.pcpedia.api.billing.domain.model.aggregate.PaymentReviewItem;
+import com.pcpedia.api.billing.domain.model.entity.LedgerEntry;
+import com.pcpedia.api.billing.domain.model.enums.ReviewReason;
+import com.pcpedia.api.billing.domain.repository.InvoiceRepository;
+import com.pcpedia.api.billing.domain.repository.PaymentRepository;
+import com.pcpedia.api.billing.domain.repository.PaymentReviewItemRepository;
+import com.pcpedia.api.billing.infrastructure.BankStatementReader;
+import com.pcpedia.api.billing.infrastructure.ReconciliationBatchWriter;
+import com.pcpedia.api.shared.infrastructure.exception.BadRequestException;
+import com.pcpedia.api.shared.infrastructure.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Turns a bank statement file into payments.
+ *
+ * The file is read line by line and handled in chunks, one transaction each. Lines are matched against
+ * in-memory hash indexes built once per import: invoice number to open invoice id, the references of
+ * recent payments, and the (invoice, date, amount) of recent payments on open invoices. The last two catch
+ * lines that were already registered, including re-uploaded lines that carry no reference; a genuine
+ * second payment with the same invoice, date and amount goes to review rather than being dropped.
+ * Matched invoices are locked for the chunk, then payments, invoice totals and review items are written
+ * as JDBC batches. Anything that does not resolve to exactly one open invoice lands in the review queue
+ * instead of failing the file.
+ */
+@Service
+@Slf4j
+public class PaymentReconciliationService {
+
+    private static final Pattern INVOICE_NUMBER = Pattern.compile("INV-[0-9]+(?:-[0-9]+)?");
+    private static final String PAYMENT_METHOD = "BANK_TRANSFER";
+    private static final int REFERENCE_LENGTH = 100;
+
+    private final InvoiceRepository invoiceRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentReviewItemRepository paymentReviewItemRepository;
+    private final ReconciliationBatchWriter batchWriter;
+    private final RevenueRollupService revenueRollupService;
+    private final LedgerService ledgerService;
+    private final TransactionTemplate transactionTemplate;
+    private final MessageSource messageSource;
+
+    @Value("${billing.reconciliation.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${billing.reconciliation.duplicate-window-days:180}")
+    private int duplicateWindowDays;
+
+    public PaymentReconciliationService(InvoiceRepository invoiceRepository,
+                                        PaymentRepository paymentRepository,
+                                        PaymentReviewItemRepository paymentReviewItemRepository,
+                                        ReconciliationBatchWriter batchWriter,
+                                        RevenueRollupService revenueRollupService,
+                                        LedgerService ledgerService,
+                                        TransactionTemplate transactionTemplate,
+                                        MessageSource messageSource) {
+        this.invoiceRepository = invoiceRepository;
+        this.paymentRepository = paymentRepository;
+        this.paymentReviewItemRepository = paymentReviewItemRepository;
+        this.batchWriter = batchWriter;
+        this.revenueRollupService = revenueRollupService;
+        this.ledgerService = ledgerService;
+        this.transactionTemplate = transactionTemplate;
+        this.messageSource = messageSource;
+    }
+
+    public StatementImportReport importStatement(String fileName, InputStream in) {
+        long startedAt = System.currentTimeMillis();
+        StatementImportReport report = StatementImportReport.builder()
+                .fileName(fileName)
+                .amountRegistered(BigDecimal.ZERO)
+                .build();
+
+        Map<String, Long> openInvoices = new HashMap<>();
+        for (Object[] row : invoiceRepository.findOpenInvoiceNumbers()) {
+            openInvoices.put(normalize((String) row[0]), (Long) row[1]);
+        }
+        Set<String> knownReferences = paymentRepository.findReferencesSince(LocalDate.now().minusDays(duplicateWindowDays))
+                .stream()
+                .map(this::normalize)
+                .collect(Collectors.toCollection(HashSet::new));
+        Set<String> knownPayments = new HashSet<>();
+        for (Object[] row : paymentRepository.findOpenInvoicePaymentsSince(LocalDate.now().minusDays(duplicateWindowDays))) {
+            knownPayments.add(paymentKey((Long) row[0], (LocalDate) row[1], (BigDecimal) row[2]));
+        }
+
+        try (BankStatementReader reader = new BankStatementReader(in)) {
+            List<BankStatementReader.Line> chunk = new ArrayList<>(chunkSize);
+            BankStatementReader.Line line;
+            while ((line = reader.next()) != null) {
+                chunk.add(line);
+                if (chunk.size() == chunkSize) {
+                    processChunk(fileName, chunk, openInvoices, knownReferences, knownPayments, report);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(fileName, chunk, openInvoices, knownReferences, knownPayments, report);
+            }
+        } catch (IOException e) {
+            throw new BadRequestException(getMessage("payment.statement.unreadable"));
+        }
+
+        report.setDurationMs(System.currentTimeMillis() - startedAt);
+        log.info("Conciliacion {}: {} lineas, {} pagos registrados, {} en revision en {} ms",
+                fileName, report.getLinesRead(), report.getPaymentsRegistered(), report.getQueuedForReview(),
+                report.getDurationMs());
+        return report;
+    }
+
+    private void processChunk(String fileName,
+                              List<BankStatementReader.Line> chunk,
+                              Map<String, Long> openInvoices,
+                              Set<String> knownReferences,
+                              Set<String> knownPayments,
+                              StatementImportReport report) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<PaymentReviewItem> reviews = new ArrayList<>();
+            Map<BankStatementReader.Line, Long> matched = new LinkedHashMap<>();
+
+            for (BankStatementReader.Line line : chunk) {
+                String reference = normalize(line.getReference());
+                // Partial payments legitimately repeat an invoice number; those lines rely on the payment key instead
+                boolean bankReference = reference != null && !openInvoices.containsKey(reference);
+                if (!line.isValid()) {
+                    reviews.add(review(fileName, line, ReviewReason.INVALID_LINE, null));
+                } else if (bankReference && knownReferences.contains(reference)) {
+                    reviews.add(review(fileName, line, ReviewReason.DUPLICATE_REFERENCE, null));
+                } else {
+                    Long invoiceId = matchInvoice(line, openInvoices);
+                    if (invoiceId == null) {
+                        reviews.add(review(fileName, line, ReviewReason.UNMATCHED, null));
+                    } else if (!knownPayments.add(paymentKey(invoiceId, line.getDate(), line.getAmount()))) {
+                        reviews.add(review(fileName, line, ReviewReason.DUPLICATE_PAYMENT, invoiceId));
+                    } else {
+                        matched.put(line, invoiceId);
+                    }
+                }
+                if (bankReference) {
+                    knownReferences.add(reference);
+                }
+            }
+
+            // Locked in id order, so concurrent imports and single payments cannot deadlock on them
+            Map<Long, Invoice> invoices = matched.isEmpty() ? Map.of() : invoiceRepository
+                    .findAllByIdInForUpdate(new HashSet<>(matched.values()))
+                    .stream()
+                    .collect(Collectors.toMap(Invoice::getId, Function.identity()));
+
+            // Running totals are kept here rather than on the managed entities, which would be flushed a second time
+            List<Payment> payments = new ArrayList<>();
+            List<LedgerEntry> postings = new ArrayList<>();
+            Map<Long, BigDecimal> paidAmounts = new LinkedHashMap<>();
+            Set<Long> fullyPaid = new HashSet<>();
+            BigDecimal amount = BigDecimal.ZERO;
+            for (Map.Entry<BankStatementReader.Line, Long> entry : matched.entrySet()) {
+                BankStatementReader.Line line = entry.getKey();
+                Invoice invoice = invoices.get(entry.getValue());
+                if (invoice == null || !invoice.isPending() || fullyPaid.contains(invoice.getId())) {
+                    reviews.add(review(fileName, line, ReviewReason.INVOICE_NOT_OPEN, entry.getValue()));
+                    continue;
+                }
+
+                BigDecimal paid = paidAmounts.getOrDefault(invoice.getId(), invoice.getPaidAmount()).add(line.getAmount());
+                paidAmounts.put(invoice.getId(), paid);
+                if (paid.compareTo(invoice.getTotalDue()) >= 0) {
+                    fullyPaid.add(invoice.getId());
+                    openInvoices.remove(normalize(invoice.getInvoiceNumber()));
+                }
+                amount = amount.add(line.getAmount());
+                payments.add(Payment.builder()
+                        .invoiceId(invoice.getId())
+                        .amount(line.getAmount())
+                        .paymentDate(line.getDate())
+                        .paymentMethod(PAYMENT_METHOD)
+                        .reference(truncate(line.getReference()))
+                        .notes("Conciliado desde " + fileName + ", línea " + line.getLineNumber())
+                        .build());
+                postings.add(LedgerEntry.paymentReceived(invoice.getUserId(), invoice.getId(), line.getAmount(),
+                        truncate(line.getReference()), line.getDate()));
+            }
+
+            batchWriter.insertPayments(payments);
+            revenueRollupService.recordAll(payments);
+            batchWriter.updateInvoiceTotals(paidAmounts, fullyPaid);
+            ledgerService.postAll(postings);
+            batchWriter.insertReviewItems(reviews);
+
+            report.setInvoicesPaid(report.getInvoicesPaid() + fullyPaid.size());
+            report.setLinesRead(report.getLinesRead() + chunk.size());
+            report.setPaymentsRegistered(report.getPaymentsRegistered() + payments.size());
+            report.setAmountRegistered(report.getAmountRegistered().add(amount));
+            report.setQueuedForReview(report.getQueuedForReview() + reviews.size());
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public Page<PaymentReviewItemResponse> getReviewQueue(Pageable pageable) {
+        return paymentReviewItemRepository.findByResolvedFalse(pageable).map(this::toResponse);
+    }
+
+    @Transactional
+    public PaymentReviewItemResponse resolveReviewItem(Long id) {
+        PaymentReviewItem item = paymentReviewItemRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(getMessage("payment.review.not-found")));
+        item.resolve();
+        return toResponse(paymentReviewItemRepository.save(item));
+    }
+
+    private Long matchInvoice(BankStatementReader.Line line, Map<String, Long> openInvoices) {
+        Long invoiceId = line.getReference() != null ? openInvoices.get(normalize(line.getReference())) : null;
+        if (invoiceId != null || line.getDescription() == null) {
+            return invoiceId;
+        }
+        Matcher matcher = INVOICE_NUMBER.matcher(line.getDescription().toUpperCase(Locale.ROOT));
+        while (matcher.find()) {
+            invoiceId = openInvoices.get(matcher.group());
+            if (invoiceId != null) {
+                return invoiceId;
+            }
+        }
+        return null;
+    }
+
+    private PaymentReviewItem review(String fileName, BankStatementReader.Line line, ReviewReason reason, Long invoiceId) {
+        return PaymentReviewItem.builder()
+                .sourceFile(fileName)
+                .lineNumber(line.getLineNumber())
+                .paymentDate(line.getDate())
+                .amount(line.getAmount())
+                .reference(truncate(line.getReference()))
+                .description(line.getDescription())
+                .reason(reason)
+                .invoiceId(invoiceId)
+                .build();
+    }
+
+    private PaymentReviewItemResponse toResponse(PaymentReviewItem item) {
+        return PaymentReviewItemResponse.builder()
+                .id(item.getId())
+                .sourceFile(item.getSourceFile())
+                .lineNumber(item.getLineNumber())
+                .paymentDate(item.getPaymentDate())
+                .amount(item.getAmount())
+                .reference(item.getReference())
+                .description(item.getDescription())
+                .reason(item.getReason().name())
+                .invoiceId(item.getInvoiceId())
+                .resolved(item.getResolved())
+                .createdAt(item.getCreatedAt())
+                .build();
+    }
+
+    private String paymentKey(Long invoiceId, LocalDate paymentDate, BigDecimal amount) {
+        return invoiceId + "|" + paymentDate + "|" + amount.stripTrailingZeros().toPlainString();
+    }
+
+    private String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private String truncate(String value) {
+        return value != null && value.length() > REFERENCE_LENGTH ? value.substring(0, REFERENCE_LENGTH) : value;
+    }
+
+    private String getMessage(String key) {
+        return messageSource.getMessage(key, null, key, LocaleContextHolder.getLocale());
+    }
+}
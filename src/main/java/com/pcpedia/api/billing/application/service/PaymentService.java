@@ -4,6 +4,7 @@ import com.pcpedia.api.billing.application.dto.request.RegisterPaymentRequest;
 import com.pcpedia.api.billing.application.dto.response.PaymentResponse;
 import com.pcpedia.api.billing.domain.model.aggregate.Invoice;
 import com.pcpedia.api.billing.domain.model.aggregate.Payment;
+import com.pcpedia.api.billing.domain.model.entity.LedgerEntry;
 import com.pcpedia.api.billing.domain.repository.InvoiceRepository;
 import com.pcpedia.api.billing.domain.repository.PaymentRepository;
 import com.pcpedia.api.shared.infrastructure.exception.BadRequestException;
@@ -16,7 +17,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +26,8 @@ public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final InvoiceRepository invoiceRepository;
+    private final RevenueRollupService revenueRollupService;
+    private final LedgerService ledgerService;
     private final MessageSource messageSource;
 
     public Long registerPayment(RegisterPaymentRequest dto) {
@@ -35,6 +38,11 @@ public class PaymentService {
             throw new BadRequestException(getMessage("invoice.not.pending"));
         }
 
+        // Conditional increment first: it takes the invoice row lock, so concurrent payments queue up here
+        if (invoiceRepository.applyPayment(dto.getInvoiceId(), dto.getAmount(), LocalDateTime.now()) == 0) {
+            throw new BadRequestException(getMessage("invoice.not.pending"));
+        }
+
         Payment payment = Payment.builder()
                 .invoiceId(dto.getInvoiceId())
                 .amount(dto.getAmount())
@@ -45,20 +53,19 @@ public class PaymentService {
                 .build();
 
         Payment savedPayment = paymentRepository.save(payment);
-
-        // Check if invoice is fully paid
-        BigDecimal totalPaid = paymentRepository.sumAmountByInvoiceId(dto.getInvoiceId());
-        if (totalPaid.compareTo(invoice.getAmount()) >= 0) {
-            invoice.markAsPaid();
-            invoiceRepository.save(invoice);
-        }
-
+        revenueRollupService.record(savedPayment.getPaymentDate(), savedPayment.getAmount());
+        ledgerService.post(LedgerEntry.paymentReceived(invoice.getUserId(), invoice.getId(), savedPayment.getAmount(),
+                savedPayment.getReference(), savedPayment.getPaymentDate()));
         return savedPayment.getId();
     }
 
+    public int backfillPaidAmounts() {
+        return invoiceRepository.backfillPaidAmounts();
+    }
+
     @Transactional(readOnly = true)
     public Page<PaymentResponse> getAllPayments(Pageable pageable) {
-        return paymentRepository.findAll(pageable).map(this::toResponse);
+        return paymentRepository.findAllWithInvoiceNumber(pageable);
     }
 
     @Transactional(readOnly = true)
@@ -70,7 +77,7 @@ public class PaymentService {
 
     @Transactional(readOnly = true)
     public Page<PaymentResponse> getPaymentsByInvoice(Long invoiceId, Pageable pageable) {
-        return paymentRepository.findByInvoiceId(invoiceId, pageable).map(this::toResponse);
+        return paymentRepository.findByInvoiceIdWithInvoiceNumber(invoiceId, pageable);
     }
 
     private PaymentResponse toResponse(Payment payment) {
@@ -0,0 +1,71 @@
+package com.pcpedia.api.billing.application.service;
+
+import com.pcpedia.api.billing.domain.model.aggregate.Payment;
+import com.pcpedia.api.billing.domain.repository.RevenueMonthlyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps revenue_monthly in step with payment inserts and answers month, quarter and year revenue from it.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class RevenueRollupService {
+
+    private final RevenueMonthlyRepository revenueMonthlyRepository;
+
+    public void record(LocalDate paymentDate, BigDecimal amount) {
+        revenueMonthlyRepository.addRevenue(YearMonth.from(paymentDate).toString(), amount, 1);
+    }
+
+    public void recordAll(Collection<Payment> payments) {
+        // One upsert per month touched; sorted so concurrent writers lock rows in the same order
+        Map<String, BigDecimal> amounts = new TreeMap<>();
+        Map<String, Long> counts = new TreeMap<>();
+        for (Payment payment : payments) {
+            String period = YearMonth.from(payment.getPaymentDate()).toString();
+            amounts.merge(period, payment.getAmount(), BigDecimal::add);
+            counts.merge(period, 1L, Long::sum);
+        }
+        amounts.forEach((period, amount) -> revenueMonthlyRepository.addRevenue(period, amount, counts.get(period)));
+    }
+
+    @Transactional(readOnly = true)
+    public BigDecimal getRevenue(YearMonth month) {
+        return getRevenue(month, month.plusMonths(1));
+    }
+
+    @Transactional(readOnly = true)
+    public BigDecimal getQuarterRevenue(YearMonth anyMonthOfQuarter) {
+        YearMonth start = anyMonthOfQuarter.withMonth((anyMonthOfQuarter.getMonthValue() - 1) / 3 * 3 + 1);
+        return getRevenue(start, start.plusMonths(3));
+    }
+
+    @Transactional(readOnly = true)
+    public BigDecimal getYearRevenue(int year) {
+        return getRevenue(YearMonth.of(year, 1), YearMonth.of(year + 1, 1));
+    }
+
+    /**
+     * @param to exclusive
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal getRevenue(YearMonth from, YearMonth to) {
+        return revenueMonthlyRepository.sumAmountInRange(from.toString(), to.toString());
+    }
+
+    // Both statements run in one transaction, so readers see either the old rollup or the rebuilt one
+    public int rebuild() {
+        revenueMonthlyRepository.deleteMonthsWithoutPayments();
+        return revenueMonthlyRepository.rebuildAll();
+    }
+}
@@ -5,12 +5,24 @@ import com.pcpedia.api.shared.domain.model.AggregateRoot;
 import com.pcpedia.api.shared.domain.model.AuditableEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
 
 @Entity
-@Table(name = "invoices")
+@Table(name = "invoices", indexes = {
+        @Index(name = "idx_invoices_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_invoices_user_created_at_id", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_invoices_status_user_due_date", columnList = "status, user_id, due_date")
+}, uniqueConstraints = {
+        // One recurring invoice per contract and month; ad-hoc invoices leave billing_period NULL
+        @UniqueConstraint(name = "uk_invoices_contract_period", columnNames = {"contract_id", "billing_period"})
+})
+// Writes only changed columns, so a status change never rewrites paid_amount maintained by applyPayment
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -40,6 +52,16 @@ public class Invoice extends AuditableEntity implements AggregateRoot {
     @Column(precision = 10, scale = 2, nullable = false)
     private BigDecimal amount;
 
+    // Running total of registered payments, maintained by InvoiceRepository.applyPayment
+    @Column(name = "paid_amount", precision = 10, scale = 2, nullable = false)
+    @Builder.Default
+    private BigDecimal paidAmount = BigDecimal.ZERO;
+
+    // Charged when the invoice goes overdue and owed on top of amount, so payments against the invoice settle it
+    @Column(name = "late_fee", precision = 10, scale = 2, nullable = false)
+    @Builder.Default
+    private BigDecimal lateFee = BigDecimal.ZERO;
+
     @Enumerated(EnumType.STRING)
     @Column(length = 20)
     @Builder.Default
@@ -48,6 +70,10 @@ public class Invoice extends AuditableEntity implements AggregateRoot {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    // yyyy-MM of the month billed by a billing run, null for manual invoices
+    @Column(name = "billing_period", length = 7)
+    private String billingPeriod;
+
     // Domain methods
     public void markAsPaid() {
         this.status = InvoiceStatus.PAID;
@@ -59,6 +85,10 @@ public class Invoice extends AuditableEntity implements AggregateRoot {
         }
     }
 
+    public void chargeLateFee(BigDecimal fee) {
+        this.lateFee = this.lateFee.add(fee);
+    }
+
     public void cancel() {
         this.status = InvoiceStatus.CANCELLED;
     }
@@ -67,8 +97,22 @@ public class Invoice extends AuditableEntity implements AggregateRoot {
         return this.status == InvoiceStatus.PENDING || this.status == InvoiceStatus.OVERDUE;
     }
 
+    public BigDecimal getTotalDue() {
+        return amount.add(lateFee);
+    }
+
+    public BigDecimal getOutstanding() {
+        return getTotalDue().subtract(paidAmount);
+    }
+
     public static String generateInvoiceNumber() {
         return "INV-" + LocalDate.now().getYear() + "-" +
                 String.format("%05d", System.currentTimeMillis() % 100000);
     }
+
+    // Deterministic so a repeated billing run can never mint a second number for the same contract and month
+    public static String generatePeriodInvoiceNumber(YearMonth period, Long contractId) {
+        return "INV-" + period.format(DateTimeFormatter.ofPattern("yyyyMM")) + "-" +
+                String.format("%08d", contractId);
+    }
 }
@@ -9,7 +9,10 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_invoice_id", columnList = "invoice_id"),
+        @Index(name = "idx_payments_payment_date", columnList = "payment_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
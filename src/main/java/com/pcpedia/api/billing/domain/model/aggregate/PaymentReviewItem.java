@@ -0,0 +1,63 @@
+package com.pcpedia.api.billing.domain.model.aggregate;
+
+import com.pcpedia.api.billing.domain.model.enums.ReviewReason;
+import com.pcpedia.api.shared.domain.model.AggregateRoot;
+import com.pcpedia.api.shared.domain.model.AuditableEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A bank statement line that reconciliation could not turn into a payment, kept for manual review.
+ */
+@Entity
+@Table(name = "payment_review_items", indexes = {
+        @Index(name = "idx_payment_review_items_resolved_id", columnList = "resolved, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentReviewItem extends AuditableEntity implements AggregateRoot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "source_file", length = 255)
+    private String sourceFile;
+
+    @Column(name = "line_number", nullable = false)
+    private Integer lineNumber;
+
+    @Column(name = "payment_date")
+    private LocalDate paymentDate;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    @Column(length = 100)
+    private String reference;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30, nullable = false)
+    private ReviewReason reason;
+
+    // Invoice the line pointed at, when it could be identified
+    @Column(name = "invoice_id")
+    private Long invoiceId;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean resolved = false;
+
+    public void resolve() {
+        this.resolved = true;
+    }
+}
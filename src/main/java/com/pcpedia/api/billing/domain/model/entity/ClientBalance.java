@@ -0,0 +1,32 @@
+package com.pcpedia.api.billing.domain.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Current receivable balance per client, moved by every ledger posting in the same transaction.
+ * The row doubles as the per-client lock that orders postings and their balance_after values.
+ */
+@Entity
+@Table(name = "client_balances")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientBalance {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(precision = 14, scale = 2, nullable = false)
+    @Builder.Default
+    private BigDecimal balance = BigDecimal.ZERO;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,115 @@
+package com.pcpedia.api.billing.domain.model.entity;
+
+import com.pcpedia.api.billing.domain.model.aggregate.Invoice;
+import com.pcpedia.api.billing.domain.model.enums.LedgerAccount;
+import com.pcpedia.api.billing.domain.model.enums.LedgerEntryType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One balanced posting in the billing ledger: amount is debited to one account and credited to another.
+ * Rows are only ever inserted; a reversal is a new posting in the opposite direction.
+ * balance_after is the client's receivable balance once this posting applied, so a statement page
+ * carries its own running balance.
+ */
+@Entity
+@Table(name = "ledger_entries", indexes = {
+        @Index(name = "idx_ledger_entries_user_id_id", columnList = "user_id, id"),
+        @Index(name = "idx_ledger_entries_invoice_id", columnList = "invoice_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "invoice_id")
+    private Long invoiceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", length = 30, nullable = false)
+    private LedgerEntryType entryType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "debit_account", length = 30, nullable = false)
+    private LedgerAccount debitAccount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "credit_account", length = 30, nullable = false)
+    private LedgerAccount creditAccount;
+
+    @Column(precision = 12, scale = 2, nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "balance_after", precision = 14, scale = 2, nullable = false)
+    private BigDecimal balanceAfter;
+
+    @Column(length = 100)
+    private String reference;
+
+    @Column(name = "entry_date", nullable = false)
+    private LocalDate entryDate;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Change this posting makes to what the client owes
+    public BigDecimal receivableDelta() {
+        if (debitAccount == LedgerAccount.RECEIVABLE) {
+            return amount;
+        }
+        return creditAccount == LedgerAccount.RECEIVABLE ? amount.negate() : BigDecimal.ZERO;
+    }
+
+    public static LedgerEntry invoiceIssued(Invoice invoice) {
+        return posting(invoice.getUserId(), invoice.getId(), LedgerEntryType.INVOICE_ISSUED,
+                LedgerAccount.RECEIVABLE, LedgerAccount.RENTAL_REVENUE, invoice.getAmount(),
+                invoice.getInvoiceNumber(), invoice.getIssueDate());
+    }
+
+    public static LedgerEntry paymentReceived(Long userId, Long invoiceId, BigDecimal amount,
+                                              String reference, LocalDate paymentDate) {
+        return posting(userId, invoiceId, LedgerEntryType.PAYMENT_RECEIVED,
+                LedgerAccount.CASH, LedgerAccount.RECEIVABLE, amount, reference, paymentDate);
+    }
+
+    // Reverses only what was still owed; payments already received stay posted
+    public static LedgerEntry invoiceCancelled(Invoice invoice, BigDecimal outstanding) {
+        return posting(invoice.getUserId(), invoice.getId(), LedgerEntryType.INVOICE_CANCELLED,
+                LedgerAccount.RENTAL_REVENUE, LedgerAccount.RECEIVABLE, outstanding,
+                invoice.getInvoiceNumber(), LocalDate.now());
+    }
+
+    public static LedgerEntry lateFee(Invoice invoice, BigDecimal fee) {
+        return posting(invoice.getUserId(), invoice.getId(), LedgerEntryType.LATE_FEE,
+                LedgerAccount.RECEIVABLE, LedgerAccount.LATE_FEE_REVENUE, fee,
+                invoice.getInvoiceNumber(), LocalDate.now());
+    }
+
+    private static LedgerEntry posting(Long userId, Long invoiceId, LedgerEntryType type,
+                                       LedgerAccount debit, LedgerAccount credit, BigDecimal amount,
+                                       String reference, LocalDate entryDate) {
+        return LedgerEntry.builder()
+                .userId(userId)
+                .invoiceId(invoiceId)
+                .entryType(type)
+                .debitAccount(debit)
+                .creditAccount(credit)
+                .amount(amount)
+                .reference(reference)
+                .entryDate(entryDate)
+                .build();
+    }
+}
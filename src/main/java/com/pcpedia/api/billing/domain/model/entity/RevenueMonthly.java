@@ -0,0 +1,32 @@
+package com.pcpedia.api.billing.domain.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Collected payments per calendar month, keyed by "yyyy-MM".
+ * Maintained on every payment insert so revenue reads never aggregate the payments table.
+ */
+@Entity
+@Table(name = "revenue_monthly")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevenueMonthly {
+
+    @Id
+    @Column(length = 7)
+    private String period;
+
+    @Column(precision = 14, scale = 2, nullable = false)
+    @Builder.Default
+    private BigDecimal amount = BigDecimal.ZERO;
+
+    @Column(name = "payment_count", nullable = false)
+    @Builder.Default
+    private Long paymentCount = 0L;
+}
@@ -0,0 +1,9 @@
+package com.pcpedia.api.billing.domain.model.enums;
+
+public enum LedgerAccount {
+    RECEIVABLE,
+    CASH,
+    RENTAL_REVENUE,
+    LATE_FEE_REVENUE,
+    OPENING_BALANCE
+}
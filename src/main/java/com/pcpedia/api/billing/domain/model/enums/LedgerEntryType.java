@@ -0,0 +1,9 @@
+package com.pcpedia.api.billing.domain.model.enums;
+
+public enum LedgerEntryType {
+    OPENING_BALANCE,
+    INVOICE_ISSUED,
+    PAYMENT_RECEIVED,
+    INVOICE_CANCELLED,
+    LATE_FEE
+}
@@ -0,0 +1,9 @@
+package com.pcpedia.api.billing.domain.model.enums;
+
+public enum ReviewReason {
+    INVALID_LINE,
+    UNMATCHED,
+    INVOICE_NOT_OPEN,
+    DUPLICATE_REFERENCE,
+    DUPLICATE_PAYMENT
+}
@@ -0,0 +1,26 @@
+package com.pcpedia.api.billing.domain.repository;
+
+import com.pcpedia.api.billing.domain.model.entity.ClientBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+
+@Repository
+public interface ClientBalanceRepository extends JpaRepository<ClientBalance, Long> {
+
+    @Query("SELECT COALESCE(SUM(b.balance), 0) FROM ClientBalance b")
+    BigDecimal sumBalances();
+
+    // Recomputes every balance from the ledger; only for seeding or repair, it reads the whole history
+    @Modifying
+    @Query(value = "INSERT INTO client_balances (user_id, balance, updated_at) " +
+                   "SELECT e.user_id, SUM(CASE WHEN e.debit_account = 'RECEIVABLE' THEN e.amount " +
+                   "WHEN e.credit_account = 'RECEIVABLE' THEN -e.amount ELSE 0 END), NOW() " +
+                   "FROM ledger_entries e GROUP BY e.user_id " +
+                   "ON DUPLICATE KEY UPDATE balance = VALUES(balance), updated_at = VALUES(updated_at)",
+           nativeQuery = true)
+    int rebuildAll();
+}
@@ -2,17 +2,26 @@ package com.pcpedia.api.billing.domain.repository;
 
 import com.pcpedia.api.billing.domain.model.aggregate.Invoice;
 import com.pcpedia.api.billing.domain.model.enums.InvoiceStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
@@ -36,17 +45,121 @@ public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
     @Query("SELECT COALESCE(SUM(i.amount), 0) FROM Invoice i WHERE i.status IN ('PENDING', 'OVERDUE')")
     BigDecimal sumPendingAmount();
 
-    @Query("SELECT COALESCE(SUM(i.amount), 0) FROM Invoice i WHERE i.userId = :userId AND i.status IN ('PENDING', 'OVERDUE')")
-    BigDecimal sumPendingAmountByUserId(@Param("userId") Long userId);
-
     long countByStatus(InvoiceStatus status);
 
     long countByUserIdAndStatus(Long userId, InvoiceStatus status);
 
-    // Check if contract already has an active invoice (not cancelled)
-    boolean existsByContractIdAndStatusNot(Long contractId, InvoiceStatus status);
+    /**
+     * Adds a payment to the running total in one statement and flips the invoice to PAID once it is covered.
+     * The row lock serialises concurrent payments; 0 rows means the invoice is no longer payable.
+     * status is assigned first because MySQL evaluates SET clauses left to right on the updated row.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Invoice i SET " +
+           "i.status = CASE WHEN i.paidAmount + :amount >= i.amount + i.lateFee " +
+           "THEN com.pcpedia.api.billing.domain.model.enums.InvoiceStatus.PAID ELSE i.status END, " +
+           "i.paidAmount = i.paidAmount + :amount, i.updatedAt = :now " +
+           "WHERE i.id = :id AND i.status IN (com.pcpedia.api.billing.domain.model.enums.InvoiceStatus.PENDING, " +
+           "com.pcpedia.api.billing.domain.model.enums.InvoiceStatus.OVERDUE)")
+    int applyPayment(@Param("id") Long id, @Param("amount") BigDecimal amount, @Param("now") LocalDateTime now);
+
+    // One-off backfill for invoices created before paid_amount existed
+    @Modifying
+    @Query("UPDATE Invoice i SET i.paidAmount = " +
+           "(SELECT COALESCE(SUM(p.amount), 0) FROM Payment p WHERE p.invoiceId = i.id) " +
+           "WHERE i.paidAmount = 0 AND EXISTS (SELECT 1 FROM Payment p WHERE p.invoiceId = i.id)")
+    int backfillPaidAmounts();
+
+    // Check if contract already has an active ad-hoc invoice (not cancelled); billing-run invoices are keyed by period
+    boolean existsByContractIdAndBillingPeriodIsNullAndStatusNot(Long contractId, InvoiceStatus status);
+
+    // Active contracts in an id range still missing their invoice for the period: contract id, user id, monthly amount
+    @Query("SELECT c.id, c.userId, c.monthlyAmount FROM Contract c " +
+           "WHERE c.status = com.pcpedia.api.sales.domain.model.enums.ContractStatus.ACTIVE " +
+           "AND c.id BETWEEN :fromId AND :toId AND c.startDate <= :periodEnd AND c.monthlyAmount IS NOT NULL " +
+           "AND NOT EXISTS (SELECT 1 FROM Invoice i WHERE i.contractId = c.id AND i.billingPeriod = :period) " +
+           "ORDER BY c.id")
+    List<Object[]> findUnbilledActiveContracts(@Param("fromId") Long fromId,
+                                               @Param("toId") Long toId,
+                                               @Param("periodEnd") LocalDate periodEnd,
+                                               @Param("period") String period);
+
+    /**
+     * Receivables aging in one grouped pass over idx_invoices_status_user_due_date. Outstanding is net of
+     * payments (amount - paid_amount); cutoffN is asOf minus N days, so a bucket is a half-open due-date range.
+     * Invoices due on or after asOf are not past due yet and land in the current bucket.
+     * Row: user id, current, 0-30, 31-60, 61-90, 90+, invoice count.
+     */
+    @Query(value = "SELECT i.userId, " +
+           "SUM(CASE WHEN i.dueDate >= :asOf THEN i.amount + i.lateFee - i.paidAmount ELSE 0 END), " +
+           "SUM(CASE WHEN i.dueDate < :asOf AND i.dueDate >= :cutoff30 THEN i.amount + i.lateFee - i.paidAmount ELSE 0 END), " +
+           "SUM(CASE WHEN i.dueDate < :cutoff30 AND i.dueDate >= :cutoff60 THEN i.amount + i.lateFee - i.paidAmount ELSE 0 END), " +
+           "SUM(CASE WHEN i.dueDate < :cutoff60 AND i.dueDate >= :cutoff90 THEN i.amount + i.lateFee - i.paidAmount ELSE 0 END), " +
+           "SUM(CASE WHEN i.dueDate < :cutoff90 THEN i.amount + i.lateFee - i.paidAmount ELSE 0 END), " +
+           "COUNT(i) FROM Invoice i WHERE i.status IN ('PENDING', 'OVERDUE') " +
+           "GROUP BY i.userId ORDER BY SUM(i.amount + i.lateFee - i.paidAmount) DESC, i.userId",
+           countQuery = "SELECT COUNT(DISTINCT i.userId) FROM Invoice i WHERE i.status IN ('PENDING', 'OVERDUE')")
+    Page<Object[]> findAgingByUser(@Param("asOf") LocalDate asOf,
+                                   @Param("cutoff30") LocalDate cutoff30,
+                                   @Param("cutoff60") LocalDate cutoff60,
+                                   @Param("cutoff90") LocalDate cutoff90,
+                                   Pageable pageable);
+
+    // Same buckets across all clients; row: current, 0-30, 31-60, 61-90, 90+, invoice count
+    @Query("SELECT " +
+           "SUM(CASE WHEN i.dueDate >= :asOf THEN i.amount + i.lateFee - i.paidAmount ELSE 0 END), " +
+           "SUM(CASE WHEN i.dueDate < :asOf AND i.dueDate >= :cutoff30 THEN i.amount + i.lateFee - i.paidAmount ELSE 0 END), " +
+           "SUM(CASE WHEN i.dueDate < :cutoff30 AND i.dueDate >= :cutoff60 THEN i.amount + i.lateFee - i.paidAmount ELSE 0 END), " +
+           "SUM(CASE WHEN i.dueDate < :cutoff60 AND i.dueDate >= :cutoff90 THEN i.amount + i.lateFee - i.paidAmount ELSE 0 END), " +
+           "SUM(CASE WHEN i.dueDate < :cutoff90 THEN i.amount + i.lateFee - i.paidAmount ELSE 0 END), " +
+           "COUNT(i) FROM Invoice i WHERE i.status IN ('PENDING', 'OVERDUE')")
+    List<Object[]> findAgingTotals(@Param("asOf") LocalDate asOf,
+                                   @Param("cutoff30") LocalDate cutoff30,
+                                   @Param("cutoff60") LocalDate cutoff60,
+                                   @Param("cutoff90") LocalDate cutoff90);
+
+    // Invoice number index of every payable invoice, for statement reconciliation
+    @Query("SELECT i.invoiceNumber, i.id FROM Invoice i WHERE i.status IN ('PENDING', 'OVERDUE')")
+    List<Object[]> findOpenInvoiceNumbers();
+
+    // Ids of invoices written by JDBC batch, which does not hand generated keys back
+    @Query("SELECT i.invoiceNumber, i.id FROM Invoice i WHERE i.invoiceNumber IN :invoiceNumbers")
+    List<Object[]> findIdsByInvoiceNumberIn(@Param("invoiceNumbers") Collection<String> invoiceNumbers);
+
+    // Status transitions read under the row lock so a concurrent applyPayment waits instead of being overwritten
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Invoice i WHERE i.id = :id")
+    Optional<Invoice> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Invoice i WHERE i.id IN :ids ORDER BY i.id")
+    List<Invoice> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
 
     // Get pending invoices for payment selection
     @Query("SELECT i FROM Invoice i WHERE i.status IN ('PENDING', 'OVERDUE') ORDER BY i.dueDate ASC")
     List<Invoice> findAllPendingInvoices();
+
+    // Keyset pagination on (createdAt, id) - no OFFSET scan and no COUNT query
+    @Query("SELECT i FROM Invoice i WHERE " +
+           "(i.createdAt < :createdAt OR (i.createdAt = :createdAt AND i.id < :id)) " +
+           "ORDER BY i.createdAt DESC, i.id DESC")
+    List<Invoice> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") Long id,
+                                Pageable pageable);
+
+    @Query("SELECT i FROM Invoice i WHERE i.userId = :userId " +
+           "AND (i.createdAt < :createdAt OR (i.createdAt = :createdAt AND i.id < :id)) " +
+           "ORDER BY i.createdAt DESC, i.id DESC")
+    List<Invoice> findPageByUserIdAfter(@Param("userId") Long userId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    // Forward-only cursor for exports; consume inside a transaction and close the stream
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE), // MySQL row-by-row streaming
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT i FROM Invoice i ORDER BY i.id")
+    Stream<Invoice> streamAllForExport();
 }
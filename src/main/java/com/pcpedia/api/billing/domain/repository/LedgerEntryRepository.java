@@ -0,0 +1,37 @@
+package com.pcpedia.api.billing.domain.repository;
+
+import com.pcpedia.api.billing.domain.model.entity.LedgerEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+    // Newest first; seeks on (user_id, id) so every page costs the same however long the history is
+    @Query("SELECT e FROM LedgerEntry e WHERE e.userId = :userId AND e.id < :id ORDER BY e.id DESC")
+    List<LedgerEntry> findStatementPage(@Param("userId") Long userId, @Param("id") Long id, Pageable pageable);
+
+    @Query(value = "SELECT EXISTS(SELECT 1 FROM ledger_entries)", nativeQuery = true)
+    long hasEntries();
+
+    /**
+     * Opens the ledger with each client's outstanding invoices when it is introduced on existing data.
+     * Payments are summed directly rather than read from paid_amount, which may not be backfilled yet.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ledger_entries " +
+                   "(user_id, entry_type, debit_account, credit_account, amount, balance_after, entry_date, created_at) " +
+                   "SELECT o.user_id, 'OPENING_BALANCE', 'RECEIVABLE', 'OPENING_BALANCE', SUM(o.outstanding), " +
+                   "SUM(o.outstanding), CURRENT_DATE, NOW() FROM (" +
+                   "SELECT i.user_id, i.amount - COALESCE((SELECT SUM(p.amount) FROM payments p WHERE p.invoice_id = i.id), 0) AS outstanding " +
+                   "FROM invoices i WHERE i.status IN ('PENDING', 'OVERDUE')) o " +
+                   "GROUP BY o.user_id HAVING SUM(o.outstanding) > 0",
+           nativeQuery = true)
+    int postOpeningBalances();
+}
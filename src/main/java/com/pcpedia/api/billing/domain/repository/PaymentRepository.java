@@ -1,5 +1,6 @@
 package com.pcpedia.api.billing.domain.repository;
 
+import com.pcpedia.api.billing.application.dto.response.PaymentResponse;
 import com.pcpedia.api.billing.domain.model.aggregate.Payment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,12 +20,29 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     List<Payment> findByInvoiceIdOrderByPaymentDateDesc(Long invoiceId);
 
+    // Payment rows with their invoice number in one statement, instead of one invoice lookup per row
+    @Query(value = "SELECT new com.pcpedia.api.billing.application.dto.response.PaymentResponse(" +
+                   "p.id, p.invoiceId, i.invoiceNumber, p.amount, p.paymentDate, p.paymentMethod, p.reference, " +
+                   "p.notes, p.createdAt) " +
+                   "FROM Payment p LEFT JOIN Invoice i ON i.id = p.invoiceId",
+           countQuery = "SELECT COUNT(p) FROM Payment p")
+    Page<PaymentResponse> findAllWithInvoiceNumber(Pageable pageable);
+
+    @Query(value = "SELECT new com.pcpedia.api.billing.application.dto.response.PaymentResponse(" +
+                   "p.id, p.invoiceId, i.invoiceNumber, p.amount, p.paymentDate, p.paymentMethod, p.reference, " +
+                   "p.notes, p.createdAt) " +
+                   "FROM Payment p LEFT JOIN Invoice i ON i.id = p.invoiceId WHERE p.invoiceId = :invoiceId",
+           countQuery = "SELECT COUNT(p) FROM Payment p WHERE p.invoiceId = :invoiceId")
+    Page<PaymentResponse> findByInvoiceIdWithInvoiceNumber(@Param("invoiceId") Long invoiceId, Pageable pageable);
+
     @Query("SELECT COALESCE(SUM(p.amount), 0) FROM Payment p WHERE p.invoiceId = :invoiceId")
     BigDecimal sumAmountByInvoiceId(@Param("invoiceId") Long invoiceId);
 
-    @Query("SELECT COALESCE(SUM(p.amount), 0) FROM Payment p WHERE MONTH(p.paymentDate) = :month AND YEAR(p.paymentDate) = :year")
-    BigDecimal sumAmountByMonth(@Param("month") int month, @Param("year") int year);
+    @Query("SELECT p.reference FROM Payment p WHERE p.reference IS NOT NULL AND p.paymentDate >= :since")
+    List<String> findReferencesSince(@Param("since") LocalDate since);
 
-    @Query("SELECT COALESCE(SUM(p.amount), 0) FROM Payment p WHERE p.paymentDate BETWEEN :startDate AND :endDate")
-    BigDecimal sumAmountBetweenDates(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    // [invoiceId, paymentDate, amount] of recent payments on invoices still open, to spot re-imported lines without a reference
+    @Query("SELECT p.invoiceId, p.paymentDate, p.amount FROM Payment p JOIN Invoice i ON i.id = p.invoiceId " +
+           "WHERE i.status IN ('PENDING', 'OVERDUE') AND p.paymentDate >= :since")
+    List<Object[]> findOpenInvoicePaymentsSince(@Param("since") LocalDate since);
 }
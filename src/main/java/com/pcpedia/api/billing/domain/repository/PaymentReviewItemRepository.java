@@ -0,0 +1,13 @@
+package com.pcpedia.api.billing.domain.repository;
+
+import com.pcpedia.api.billing.domain.model.aggregate.PaymentReviewItem;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PaymentReviewItemRepository extends JpaRepository<PaymentReviewItem, Long> {
+
+    Page<PaymentReviewItem> findByResolvedFalse(Pageable pageable);
+}
@@ -0,0 +1,40 @@
+package com.pcpedia.api.billing.domain.repository;
+
+import com.pcpedia.api.billing.domain.model.entity.RevenueMonthly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+
+@Repository
+public interface RevenueMonthlyRepository extends JpaRepository<RevenueMonthly, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO revenue_monthly (period, amount, payment_count) VALUES (:period, :amount, :count) " +
+                   "ON DUPLICATE KEY UPDATE amount = amount + VALUES(amount), payment_count = payment_count + VALUES(payment_count)",
+           nativeQuery = true)
+    int addRevenue(@Param("period") String period, @Param("amount") BigDecimal amount, @Param("count") long count);
+
+    // Periods are yyyy-MM, so a string range over the primary key covers quarters and years
+    @Query("SELECT COALESCE(SUM(r.amount), 0) FROM RevenueMonthly r WHERE r.period >= :fromPeriod AND r.period < :toPeriod")
+    BigDecimal sumAmountInRange(@Param("fromPeriod") String fromPeriod, @Param("toPeriod") String toPeriod);
+
+    // Recomputes every month from the payments table in one grouped pass
+    @Modifying
+    @Query(value = "INSERT INTO revenue_monthly (period, amount, payment_count) " +
+                   "SELECT DATE_FORMAT(p.payment_date, '%Y-%m'), SUM(p.amount), COUNT(*) FROM payments p " +
+                   "GROUP BY DATE_FORMAT(p.payment_date, '%Y-%m') " +
+                   "ON DUPLICATE KEY UPDATE amount = VALUES(amount), payment_count = VALUES(payment_count)",
+           nativeQuery = true)
+    int rebuildAll();
+
+    // Months whose payments were all deleted; rebuildAll alone would leave their old totals in place
+    @Modifying
+    @Query(value = "DELETE FROM revenue_monthly WHERE period NOT IN " +
+                   "(SELECT DISTINCT DATE_FORMAT(p.payment_date, '%Y-%m') FROM payments p)",
+           nativeQuery = true)
+    int deleteMonthsWithoutPayments();
+}
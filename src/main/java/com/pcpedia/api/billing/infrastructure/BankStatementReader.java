@@ -0,0 +1,118 @@
+package com.pcpedia.api.billing.infrastructure;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads a bank statement CSV one line at a time: {@code date,amount,reference,description} with an
+ * optional header row, ISO dates and a dot as decimal separator. Quoted fields may contain commas.
+ * Malformed lines are returned with an error instead of aborting the file.
+ */
+public class BankStatementReader implements Closeable {
+
+    private final BufferedReader reader;
+    private int lineNumber;
+
+    public BankStatementReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the next non-blank line, or null at end of file
+     */
+    public Line next() throws IOException {
+        String raw;
+        while ((raw = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && raw.startsWith("\uFEFF")) {
+                raw = raw.substring(1);
+            }
+            if (raw.isBlank() || (lineNumber == 1 && isHeader(raw))) {
+                continue;
+            }
+            return parse(lineNumber, raw);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean isHeader(String raw) {
+        String first = raw.toLowerCase(Locale.ROOT);
+        return first.startsWith("date") || first.startsWith("fecha");
+    }
+
+    private Line parse(int number, String raw) {
+        List<String> fields = split(raw);
+        if (fields.size() < 3) {
+            return Line.invalid(number, raw);
+        }
+        try {
+            LocalDate date = LocalDate.parse(fields.get(0).trim());
+            BigDecimal amount = new BigDecimal(fields.get(1).trim());
+            if (amount.signum() <= 0) {
+                return Line.invalid(number, raw);
+            }
+            String reference = fields.get(2).trim();
+            String description = fields.size() > 3 ? fields.get(3).trim() : null;
+            return new Line(number, date, amount, reference.isEmpty() ? null : reference, description, true);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return Line.invalid(number, raw);
+        }
+    }
+
+    private List<String> split(String raw) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < raw.length() && raw.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == ',' && !quoted) {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Line {
+        private final int lineNumber;
+        private final LocalDate date;
+        private final BigDecimal amount;
+        private final String reference;
+        private final String description;
+        private final boolean valid;
+
+        static Line invalid(int lineNumber, String raw) {
+            return new Line(lineNumber, null, null, null, raw, false);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.pcpedia.api.billing.infrastructure;
+
+import com.pcpedia.api.billing.domain.model.aggregate.Invoice;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Inserts invoices as one JDBC batch. Invoice uses IDENTITY keys, so saveAll would issue one
+ * INSERT per row; a billing run writes thousands of them.
+ */
+@Component
+@RequiredArgsConstructor
+public class InvoiceBatchWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO invoices " +
+            "(contract_id, user_id, invoice_number, issue_date, due_date, amount, paid_amount, late_fee, status, " +
+            "description, billing_period, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Invoice> invoices) {
+        if (invoices.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = invoices.stream()
+                .map(i -> new Object[]{
+                        i.getContractId(), i.getUserId(), i.getInvoiceNumber(),
+                        Date.valueOf(i.getIssueDate()), Date.valueOf(i.getDueDate()), i.getAmount(), i.getPaidAmount(), i.getLateFee(),
+                        i.getStatus().name(), i.getDescription(), i.getBillingPeriod(), now, now})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+}
@@ -0,0 +1,23 @@
+package com.pcpedia.api.billing.infrastructure;
+
+import com.pcpedia.api.billing.application.service.PaymentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InvoicePaidAmountInitializer implements CommandLineRunner {
+
+    private final PaymentService paymentService;
+
+    @Override
+    public void run(String... args) {
+        int rows = paymentService.backfillPaidAmounts();
+        if (rows > 0) {
+            log.info("Monto pagado recalculado para {} facturas existentes", rows);
+        }
+    }
+}
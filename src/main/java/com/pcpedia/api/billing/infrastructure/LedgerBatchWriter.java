@@ -0,0 +1,73 @@
+package com.pcpedia.api.billing.infrastructure;
+
+import com.pcpedia.api.billing.domain.model.entity.LedgerEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+
+/**
+ * JDBC access for ledger postings: client balance row locks, batched entry inserts and balance updates.
+ * Kept out of the persistence context so balances read under lock are never served from a stale entity.
+ */
+@Component
+@RequiredArgsConstructor
+public class LedgerBatchWriter {
+
+    private static final String ENSURE_BALANCE_SQL = "INSERT IGNORE INTO client_balances (user_id, balance, updated_at) " +
+            "VALUES (?, 0, ?)";
+
+    private static final String INSERT_ENTRY_SQL = "INSERT INTO ledger_entries " +
+            "(user_id, invoice_id, entry_type, debit_account, credit_account, amount, balance_after, reference, " +
+            "entry_date, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_BALANCE_SQL = "UPDATE client_balances SET balance = ?, updated_at = ? " +
+            "WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates missing balance rows and locks all of them until the transaction ends.
+     * Sorted ids keep every writer acquiring the locks in the same order.
+     */
+    public Map<Long, BigDecimal> lockBalances(SortedSet<Long> userIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(ENSURE_BALANCE_SQL, userIds.stream()
+                .map(id -> new Object[]{id, now})
+                .toList());
+
+        String placeholders = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        jdbcTemplate.query("SELECT user_id, balance FROM client_balances WHERE user_id IN (" + placeholders + ") " +
+                        "ORDER BY user_id FOR UPDATE",
+                rs -> {
+                    balances.put(rs.getLong(1), rs.getBigDecimal(2));
+                },
+                userIds.toArray());
+        return balances;
+    }
+
+    public void insertEntries(List<LedgerEntry> entries) {
+        jdbcTemplate.batchUpdate(INSERT_ENTRY_SQL, entries.stream()
+                .map(e -> new Object[]{e.getUserId(), e.getInvoiceId(), e.getEntryType().name(),
+                        e.getDebitAccount().name(), e.getCreditAccount().name(), e.getAmount(), e.getBalanceAfter(),
+                        e.getReference(), Date.valueOf(e.getEntryDate()), Timestamp.valueOf(e.getCreatedAt())})
+                .toList());
+    }
+
+    public void updateBalances(Map<Long, BigDecimal> balances) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_BALANCE_SQL, balances.entrySet().stream()
+                .map(e -> new Object[]{e.getValue(), now, e.getKey()})
+                .toList());
+    }
+}
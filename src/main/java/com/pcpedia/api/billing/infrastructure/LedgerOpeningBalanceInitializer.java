@@ -0,0 +1,23 @@
+package com.pcpedia.api.billing.infrastructure;
+
+import com.pcpedia.api.billing.application.service.LedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerOpeningBalanceInitializer implements CommandLineRunner {
+
+    private final LedgerService ledgerService;
+
+    @Override
+    public void run(String... args) {
+        int posted = ledgerService.openIfEmpty();
+        if (posted > 0) {
+            log.info("Libro mayor abierto con saldos iniciales de {} clientes", posted);
+        }
+    }
+}
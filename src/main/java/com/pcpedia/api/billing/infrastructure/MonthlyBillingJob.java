@@ -0,0 +1,26 @@
+package com.pcpedia.api.billing.infrastructure;
+
+import com.pcpedia.api.billing.application.dto.response.BillingRunReport;
+import com.pcpedia.api.billing.application.service.BillingRunService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MonthlyBillingJob {
+
+    private final BillingRunService billingRunService;
+
+    @Scheduled(cron = "${billing.run.cron:0 0 3 1 * *}")
+    public void run() {
+        BillingRunReport report = billingRunService.run(YearMonth.now());
+        log.info("Facturacion mensual {} completada: {} facturas por {} en {} particiones ({} fallidas) en {} ms",
+                report.getPeriod(), report.getInvoicesCreated(), report.getAmountBilled(),
+                report.getPartitions(), report.getFailedPartitions().size(), report.getDurationMs());
+    }
+}
@@ -0,0 +1,72 @@
+package com.pcpedia.api.billing.infrastructure;
+
+import com.pcpedia.api.billing.domain.model.aggregate.Payment;
+import com.pcpedia.api.billing.domain.model.aggregate.PaymentReviewItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JDBC batches for statement reconciliation: payments, the invoice totals they move and the lines left
+ * for review. All three tables use IDENTITY keys, so Hibernate would insert them one row at a time.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReconciliationBatchWriter {
+
+    private static final String INSERT_PAYMENT_SQL = "INSERT INTO payments " +
+            "(invoice_id, amount, payment_date, payment_method, reference, notes, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Absolute totals: callers hold the invoice row locks for the whole chunk
+    private static final String UPDATE_INVOICE_SQL = "UPDATE invoices " +
+            "SET paid_amount = ?, status = CASE WHEN ? THEN 'PAID' ELSE status END, updated_at = ? WHERE id = ?";
+
+    private static final String INSERT_REVIEW_SQL = "INSERT INTO payment_review_items " +
+            "(source_file, line_number, payment_date, amount, reference, description, reason, invoice_id, resolved, " +
+            "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertPayments(List<Payment> payments) {
+        if (payments.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_PAYMENT_SQL, payments.stream()
+                .map(p -> new Object[]{p.getInvoiceId(), p.getAmount(), Date.valueOf(p.getPaymentDate()),
+                        p.getPaymentMethod(), p.getReference(), p.getNotes(), now, now})
+                .toList());
+    }
+
+    public void updateInvoiceTotals(Map<Long, BigDecimal> paidAmountByInvoiceId, Set<Long> fullyPaidIds) {
+        if (paidAmountByInvoiceId.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_INVOICE_SQL, paidAmountByInvoiceId.entrySet().stream()
+                .map(e -> new Object[]{e.getValue(), fullyPaidIds.contains(e.getKey()), now, e.getKey()})
+                .toList());
+    }
+
+    public void insertReviewItems(List<PaymentReviewItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_REVIEW_SQL, items.stream()
+                .map(r -> new Object[]{r.getSourceFile(), r.getLineNumber(),
+                        r.getPaymentDate() != null ? Date.valueOf(r.getPaymentDate()) : null,
+                        r.getAmount(), r.getReference(), r.getDescription(), r.getReason().name(), r.getInvoiceId(),
+                        false, now, now})
+                .toList());
+    }
+}
@@ -0,0 +1,21 @@
+package com.pcpedia.api.billing.infrastructure;
+
+import com.pcpedia.api.billing.application.service.RevenueRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RevenueMonthlyInitializer implements CommandLineRunner {
+
+    private final RevenueRollupService revenueRollupService;
+
+    @Override
+    public void run(String... args) {
+        int rows = revenueRollupService.rebuild();
+        log.info("Resumen mensual de ingresos reconstruido ({} filas afectadas)", rows);
+    }
+}
@@ -1,10 +1,15 @@
 package com.pcpedia.api.billing.interfaces.rest;
 
 import com.pcpedia.api.billing.application.dto.request.CreateInvoiceRequest;
+import com.pcpedia.api.billing.application.dto.response.AgingReportResponse;
+import com.pcpedia.api.billing.application.dto.response.BillingRunReport;
 import com.pcpedia.api.billing.application.dto.response.InvoiceResponse;
+import com.pcpedia.api.billing.application.service.BillingRunService;
 import com.pcpedia.api.billing.application.service.InvoiceService;
 import com.pcpedia.api.iam.domain.model.aggregate.User;
 import com.pcpedia.api.iam.domain.repository.UserRepository;
+import com.pcpedia.api.shared.application.pagination.CursorPage;
+import com.pcpedia.api.shared.infrastructure.export.ExportFormat;
 import com.pcpedia.api.shared.interfaces.rest.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,12 +21,19 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
 
 @RestController
 @RequestMapping("/api/invoices")
@@ -30,6 +42,7 @@ import org.springframework.web.bind.annotation.*;
 public class InvoiceController {
 
     private final InvoiceService invoiceService;
+    private final BillingRunService billingRunService;
     private final UserRepository userRepository;
     private final MessageSource messageSource;
 
@@ -43,6 +56,40 @@ public class InvoiceController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(message, invoiceId));
     }
 
+    @PostMapping("/billing-runs")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Run monthly billing", description = "Generate the period's invoice for every active contract; defaults to the current month and is safe to re-run")
+    public ResponseEntity<ApiResponse<BillingRunReport>> runBilling(
+            @RequestParam(required = false) YearMonth period) {
+
+        BillingRunReport report = billingRunService.run(period != null ? period : YearMonth.now());
+        return ResponseEntity.ok(ApiResponse.success(report));
+    }
+
+    @GetMapping("/aging")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Receivables aging", description = "Outstanding PENDING/OVERDUE amounts per client, bucketed as not yet due and 0-30/31-60/61-90/90+ days past due")
+    public ResponseEntity<ApiResponse<AgingReportResponse>> getAgingReport(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        AgingReportResponse report = invoiceService.getAgingReport(asOf != null ? asOf : LocalDate.now(), PageRequest.of(page, size));
+        return ResponseEntity.ok(ApiResponse.success(report));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export invoices", description = "Stream every invoice as CSV or NDJSON (format=csv|ndjson)")
+    public ResponseEntity<StreamingResponseBody> exportInvoices(@RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("invoices." + exportFormat.getExtension()).build().toString())
+                .body(invoiceService.exportInvoices(exportFormat));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get invoice by ID", description = "Get invoice details")
     public ResponseEntity<ApiResponse<InvoiceResponse>> getInvoiceById(
@@ -69,6 +116,19 @@ public class InvoiceController {
         return ResponseEntity.ok(ApiResponse.success(invoices));
     }
 
+    @GetMapping(params = "after")
+    @Operation(summary = "List invoices by cursor", description = "Get invoices after an opaque cursor; pass an empty cursor for the first page")
+    public ResponseEntity<ApiResponse<CursorPage<InvoiceResponse>>> getInvoicesAfter(
+            @RequestParam(name = "after") String after,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        User user = userRepository.findByEmail(userDetails.getUsername()).orElseThrow();
+        boolean isAdmin = user.isAdmin();
+        CursorPage<InvoiceResponse> invoices = invoiceService.getInvoicesAfter(after, size, user.getId(), isAdmin);
+        return ResponseEntity.ok(ApiResponse.success(invoices));
+    }
+
     @PutMapping("/{id}/cancel")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Cancel invoice", description = "Admin cancels an invoice")
@@ -0,0 +1,50 @@
+package com.pcpedia.api.billing.interfaces.rest;
+
+import com.pcpedia.api.billing.application.dto.response.ClientBalanceResponse;
+import com.pcpedia.api.billing.application.dto.response.LedgerEntryResponse;
+import com.pcpedia.api.billing.application.service.LedgerService;
+import com.pcpedia.api.iam.domain.model.aggregate.User;
+import com.pcpedia.api.iam.domain.repository.UserRepository;
+import com.pcpedia.api.shared.application.pagination.CursorPage;
+import com.pcpedia.api.shared.interfaces.rest.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/ledger")
+@RequiredArgsConstructor
+@Tag(name = "Ledger", description = "Client balances and account statements")
+public class LedgerController {
+
+    private final LedgerService ledgerService;
+    private final UserRepository userRepository;
+
+    @GetMapping("/clients/{userId}/balance")
+    @Operation(summary = "Get client balance", description = "Current receivable balance of a client; clients may only read their own")
+    public ResponseEntity<ApiResponse<ClientBalanceResponse>> getBalance(
+            @PathVariable Long userId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        User user = userRepository.findByEmail(userDetails.getUsername()).orElseThrow();
+        ClientBalanceResponse response = ledgerService.getBalance(userId, user.getId(), user.isAdmin());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/clients/{userId}/statement")
+    @Operation(summary = "Get client statement", description = "Ledger entries of a client, newest first, each with the balance it left; pass the returned cursor as after for the next page")
+    public ResponseEntity<ApiResponse<CursorPage<LedgerEntryResponse>>> getStatement(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        User user = userRepository.findByEmail(userDetails.getUsername()).orElseThrow();
+        CursorPage<LedgerEntryResponse> statement = ledgerService.getStatement(userId, after, size, user.getId(), user.isAdmin());
+        return ResponseEntity.ok(ApiResponse.success(statement));
+    }
+}
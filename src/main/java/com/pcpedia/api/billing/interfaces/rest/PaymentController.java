@@ -2,7 +2,11 @@ package com.pcpedia.api.billing.interfaces.rest;
 
 import com.pcpedia.api.billing.application.dto.request.RegisterPaymentRequest;
 import com.pcpedia.api.billing.application.dto.response.PaymentResponse;
+import com.pcpedia.api.billing.application.dto.response.PaymentReviewItemResponse;
+import com.pcpedia.api.billing.application.dto.response.StatementImportReport;
+import com.pcpedia.api.billing.application.service.PaymentReconciliationService;
 import com.pcpedia.api.billing.application.service.PaymentService;
+import com.pcpedia.api.shared.infrastructure.exception.BadRequestException;
 import com.pcpedia.api.shared.interfaces.rest.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,9 +19,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 @RestController
 @RequestMapping("/api/payments")
@@ -27,6 +36,7 @@ import org.springframework.web.bind.annotation.*;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final PaymentReconciliationService paymentReconciliationService;
     private final MessageSource messageSource;
 
     @PostMapping
@@ -49,6 +59,38 @@ public class PaymentController {
         return ResponseEntity.ok(ApiResponse.success(payments));
     }
 
+    @PostMapping(value = "/reconciliation", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import bank statement", description = "Register payments from a statement CSV (date,amount,reference,description); unmatched lines go to the review queue")
+    public ResponseEntity<ApiResponse<StatementImportReport>> importStatement(@RequestParam("file") MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new BadRequestException(getMessage("payment.statement.empty"));
+        }
+        try (InputStream in = file.getInputStream()) {
+            StatementImportReport report = paymentReconciliationService.importStatement(file.getOriginalFilename(), in);
+            return ResponseEntity.ok(ApiResponse.success(getMessage("payment.statement.imported"), report));
+        } catch (IOException e) {
+            throw new BadRequestException(getMessage("payment.statement.unreadable"));
+        }
+    }
+
+    @GetMapping("/review-queue")
+    @Operation(summary = "List review queue", description = "Statement lines that could not be matched to an open invoice")
+    public ResponseEntity<ApiResponse<Page<PaymentReviewItemResponse>>> getReviewQueue(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id").ascending());
+        Page<PaymentReviewItemResponse> items = paymentReconciliationService.getReviewQueue(pageable);
+        return ResponseEntity.ok(ApiResponse.success(items));
+    }
+
+    @PutMapping("/review-queue/{id}/resolve")
+    @Operation(summary = "Resolve review item", description = "Mark a statement line as handled")
+    public ResponseEntity<ApiResponse<PaymentReviewItemResponse>> resolveReviewItem(@PathVariable Long id) {
+        PaymentReviewItemResponse item = paymentReconciliationService.resolveReviewItem(id);
+        return ResponseEntity.ok(ApiResponse.success(item));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get payment by ID", description = "Get payment details by ID")
     public ResponseEntity<ApiResponse<PaymentResponse>> getPaymentById(@PathVariable Long id) {
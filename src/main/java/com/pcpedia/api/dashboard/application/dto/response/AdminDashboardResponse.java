@@ -20,6 +20,8 @@ public class AdminDashboardResponse {
     private Long pendingQuotes;
     private Long openTickets;
     private BigDecimal monthlyRevenue;
+    private BigDecimal quarterlyRevenue;
+    private BigDecimal yearlyRevenue;
     private BigDecimal pendingPayments;
     private Map<String, Long> equipmentByStatus;
     private Map<String, Long> ticketsByPriority;
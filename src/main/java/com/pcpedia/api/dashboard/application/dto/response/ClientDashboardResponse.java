@@ -22,4 +22,5 @@ public class ClientDashboardResponse {
     private Long pendingInvoices;
     private LocalDate nextPaymentDate;
     private BigDecimal nextPaymentAmount;
+    private BigDecimal balance;
 }
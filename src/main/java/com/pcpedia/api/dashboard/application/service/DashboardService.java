@@ -1,9 +1,10 @@
 package com.pcpedia.api.dashboard.application.service;
 
+import com.pcpedia.api.billing.application.service.LedgerService;
+import com.pcpedia.api.billing.application.service.RevenueRollupService;
 import com.pcpedia.api.billing.domain.model.aggregate.Invoice;
 import com.pcpedia.api.billing.domain.model.enums.InvoiceStatus;
 import com.pcpedia.api.billing.domain.repository.InvoiceRepository;
-import com.pcpedia.api.billing.domain.repository.PaymentRepository;
 import com.pcpedia.api.dashboard.application.dto.response.AdminDashboardResponse;
 import com.pcpedia.api.dashboard.application.dto.response.ClientDashboardResponse;
 import com.pcpedia.api.iam.domain.model.enums.Role;
@@ -24,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,7 +42,8 @@ public class DashboardService {
     private final ContractRepository contractRepository;
     private final TicketRepository ticketRepository;
     private final InvoiceRepository invoiceRepository;
-    private final PaymentRepository paymentRepository;
+    private final RevenueRollupService revenueRollupService;
+    private final LedgerService ledgerService;
 
     public AdminDashboardResponse getAdminDashboard() {
         // Equipment by status
@@ -55,9 +58,8 @@ public class DashboardService {
             ticketsByPriority.put(priority.name(), ticketRepository.countByPriority(priority));
         }
 
-        // Monthly revenue (current month)
-        LocalDate now = LocalDate.now();
-        BigDecimal monthlyRevenue = paymentRepository.sumAmountByMonth(now.getMonthValue(), now.getYear());
+        // Revenue for the current month, quarter and year, read from the monthly rollup
+        YearMonth currentMonth = YearMonth.now();
 
         return AdminDashboardResponse.builder()
                 .totalClients(userRepository.countByRole(Role.CLIENT))
@@ -65,8 +67,10 @@ public class DashboardService {
                 .pendingRequests(requestRepository.countByStatus(RequestStatus.PENDING))
                 .pendingQuotes(quoteRepository.countByStatus(QuoteStatus.SENT))
                 .openTickets(ticketRepository.countOpenTickets())
-                .monthlyRevenue(monthlyRevenue)
-                .pendingPayments(invoiceRepository.sumPendingAmount())
+                .monthlyRevenue(revenueRollupService.getRevenue(currentMonth))
+                .quarterlyRevenue(revenueRollupService.getQuarterRevenue(currentMonth))
+                .yearlyRevenue(revenueRollupService.getYearRevenue(currentMonth.getYear()))
+                .pendingPayments(ledgerService.getTotalReceivable())
                 .equipmentByStatus(equipmentByStatus)
                 .ticketsByPriority(ticketsByPriority)
                 .build();
@@ -100,6 +104,7 @@ public class DashboardService {
                         invoiceRepository.countByUserIdAndStatus(userId, InvoiceStatus.OVERDUE))
                 .nextPaymentDate(nextPaymentDate)
                 .nextPaymentAmount(nextPaymentAmount)
+                .balance(ledgerService.getBalance(userId, userId, false).getBalance())
                 .build();
     }
 }
@@ -0,0 +1,44 @@
+package com.pcpedia.api.iam.application.handler.query;
+
+import com.pcpedia.api.iam.application.dto.response.UserResponse;
+import com.pcpedia.api.iam.application.mapper.UserMapper;
+import com.pcpedia.api.iam.application.query.GetUsersCursorPageQuery;
+import com.pcpedia.api.iam.domain.model.aggregate.User;
+import com.pcpedia.api.iam.domain.model.enums.Role;
+import com.pcpedia.api.iam.domain.repository.UserRepository;
+import com.pcpedia.api.shared.application.cqrs.QueryHandler;
+import com.pcpedia.api.shared.application.pagination.CursorPage;
+import com.pcpedia.api.shared.application.pagination.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetUsersCursorPageQueryHandler implements QueryHandler<GetUsersCursorPageQuery, CursorPage<UserResponse>> {
+
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+
+    @Override
+    public CursorPage<UserResponse> handle(GetUsersCursorPageQuery query) {
+        KeysetCursor cursor = KeysetCursor.decode(query.getAfter());
+
+        List<User> rows = userRepository.findPageByRoleAfter(
+                Role.CLIENT,
+                query.getIsActive(),
+                StringUtils.hasText(query.getSearch()) ? query.getSearch() : null,
+                cursor.getCreatedAt(),
+                cursor.getId(),
+                CursorPage.probe(query.getSize())
+        );
+
+        return CursorPage.of(rows, query.getSize(),
+                u -> new KeysetCursor(u.getCreatedAt(), u.getId()),
+                userMapper::toResponse);
+    }
+}
@@ -0,0 +1,21 @@
+package com.pcpedia.api.iam.application.query;
+
+import com.pcpedia.api.iam.application.dto.response.UserResponse;
+import com.pcpedia.api.shared.application.cqrs.Query;
+import com.pcpedia.api.shared.application.pagination.CursorPage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetUsersCursorPageQuery implements Query<CursorPage<UserResponse>> {
+
+    private String after;
+    private int size;
+    private String search;
+    private Boolean isActive;
+}
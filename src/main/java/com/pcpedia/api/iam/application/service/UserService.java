@@ -12,9 +12,12 @@ import com.pcpedia.api.iam.application.handler.command.UpdateUserCommandHandler;
 import com.pcpedia.api.iam.application.handler.query.GetAllUsersQueryHandler;
 import com.pcpedia.api.iam.application.handler.query.GetUserByEmailQueryHandler;
 import com.pcpedia.api.iam.application.handler.query.GetUserByIdQueryHandler;
+import com.pcpedia.api.iam.application.handler.query.GetUsersCursorPageQueryHandler;
 import com.pcpedia.api.iam.application.query.GetAllUsersQuery;
 import com.pcpedia.api.iam.application.query.GetUserByEmailQuery;
 import com.pcpedia.api.iam.application.query.GetUserByIdQuery;
+import com.pcpedia.api.iam.application.query.GetUsersCursorPageQuery;
+import com.pcpedia.api.shared.application.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -34,6 +37,7 @@ public class UserService {
     private final GetUserByIdQueryHandler getUserByIdHandler;
     private final GetUserByEmailQueryHandler getUserByEmailHandler;
     private final GetAllUsersQueryHandler getAllUsersHandler;
+    private final GetUsersCursorPageQueryHandler getUsersCursorPageHandler;
 
     // Commands
     public Long createUser(CreateUserCommand command) {
@@ -64,4 +68,8 @@ public class UserService {
     public Page<UserResponse> getAllUsers(Pageable pageable, String search, Boolean isActive) {
         return getAllUsersHandler.handle(new GetAllUsersQuery(pageable, search, isActive));
     }
+
+    public CursorPage<UserResponse> getUsersAfter(String after, int size, String search, Boolean isActive) {
+        return getUsersCursorPageHandler.handle(new GetUsersCursorPageQuery(after, size, search, isActive));
+    }
 }
@@ -7,7 +7,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_role_created_at_id", columnList = "role, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -20,6 +22,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     long countByRole(Role role);
 
+    @Query("SELECT u.id FROM User u WHERE u.role = :role AND u.isActive = true")
+    List<Long> findActiveIdsByRole(@Param("role") Role role);
+
     @Query("SELECT u FROM User u WHERE u.role = :role AND " +
             "(LOWER(u.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
             "LOWER(u.email) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -36,4 +41,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
             "LOWER(u.companyName) LIKE LOWER(CONCAT('%', :search, '%')))")
     Page<User> findByRoleAndIsActiveAndSearch(@Param("role") Role role, @Param("isActive") Boolean isActive,
                                                @Param("search") String search, Pageable pageable);
+
+    // Keyset pagination on (createdAt, id) - no OFFSET scan and no COUNT query
+    @Query("SELECT u FROM User u WHERE u.role = :role " +
+            "AND (:isActive IS NULL OR u.isActive = :isActive) " +
+            "AND (:search IS NULL OR LOWER(u.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            "LOWER(u.email) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            "LOWER(u.companyName) LIKE LOWER(CONCAT('%', :search, '%'))) " +
+            "AND (u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id)) " +
+            "ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findPageByRoleAfter(@Param("role") Role role,
+                                   @Param("isActive") Boolean isActive,
+                                   @Param("search") String search,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
 }
@@ -7,6 +7,7 @@ import com.pcpedia.api.iam.application.dto.request.UpdateUserRequest;
 import com.pcpedia.api.iam.application.dto.response.UserResponse;
 import com.pcpedia.api.iam.application.mapper.UserMapper;
 import com.pcpedia.api.iam.application.service.UserService;
+import com.pcpedia.api.shared.application.pagination.CursorPage;
 import com.pcpedia.api.shared.interfaces.rest.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -69,6 +70,18 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(users));
     }
 
+    @GetMapping(params = "after")
+    @Operation(summary = "List clients by cursor", description = "Get clients after an opaque cursor; pass an empty cursor for the first page")
+    public ResponseEntity<ApiResponse<CursorPage<UserResponse>>> getUsersAfter(
+            @RequestParam(name = "after") String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Boolean isActive) {
+
+        CursorPage<UserResponse> users = userService.getUsersAfter(after, size, search, isActive);
+        return ResponseEntity.ok(ApiResponse.success(users));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update client", description = "Update client information")
     public ResponseEntity<ApiResponse<Void>> updateUser(
@@ -0,0 +1,18 @@
+package com.pcpedia.api.inventory.application.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.domain.Page;
+
+import java.util.Map;
+
+/**
+ * Catalog search result with facet counts per attribute (e.g. ram -> {"16 GB": 4, "32 GB": 1})
+ * Note: NO price information is exposed to clients
+ */
+@Data
+@Builder
+public class CatalogFacetResponse {
+    private Page<CatalogProductModelResponse> models;
+    private Map<String, Map<String, Long>> facets;
+}
@@ -0,0 +1,18 @@
+package com.pcpedia.api.inventory.application.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+public class UtilizationResponse {
+    private Long productModelId;   // null when grouped by category
+    private String productModelName;
+    private String category;
+    private Long days;
+    private Long leasedUnitDays;
+    private Long fleetUnitDays;    // available + leased + maintenance, retired units excluded
+    private BigDecimal utilization; // leasedUnitDays / fleetUnitDays, 0..1
+}
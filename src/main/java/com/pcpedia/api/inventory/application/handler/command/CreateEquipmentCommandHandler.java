@@ -1,9 +1,12 @@
 package com.pcpedia.api.inventory.application.handler.command;
 
 import com.pcpedia.api.inventory.application.command.CreateEquipmentCommand;
+import com.pcpedia.api.inventory.application.service.EquipmentStatusHistoryService;
+import com.pcpedia.api.inventory.application.service.ProductModelStockService;
 import com.pcpedia.api.inventory.domain.model.aggregate.Equipment;
 import com.pcpedia.api.inventory.domain.model.aggregate.ProductModel;
 import com.pcpedia.api.inventory.domain.model.enums.EquipmentStatus;
+import com.pcpedia.api.inventory.domain.model.event.EquipmentStatusChangedEvent;
 import com.pcpedia.api.inventory.domain.repository.EquipmentRepository;
 import com.pcpedia.api.inventory.domain.repository.ProductModelRepository;
 import com.pcpedia.api.shared.application.cqrs.CommandHandler;
@@ -23,6 +26,8 @@ public class CreateEquipmentCommandHandler implements CommandHandler<CreateEquip
 
     private final EquipmentRepository equipmentRepository;
     private final ProductModelRepository productModelRepository;
+    private final ProductModelStockService productModelStockService;
+    private final EquipmentStatusHistoryService equipmentStatusHistoryService;
     private final MessageSource messageSource;
 
     @Override
@@ -55,6 +60,9 @@ public class CreateEquipmentCommandHandler implements CommandHandler<CreateEquip
                 .build();
 
         Equipment savedEquipment = equipmentRepository.save(equipment);
+        productModelStockService.registerUnits(productModel.getId(), EquipmentStatus.AVAILABLE, 1);
+        equipmentStatusHistoryService.record(new EquipmentStatusChangedEvent(
+                savedEquipment.getId(), productModel.getId(), null, EquipmentStatus.AVAILABLE));
         return savedEquipment.getId();
     }
 
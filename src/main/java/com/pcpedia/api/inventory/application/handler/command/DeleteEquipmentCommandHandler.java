@@ -1,8 +1,11 @@
 package com.pcpedia.api.inventory.application.handler.command;
 
 import com.pcpedia.api.inventory.application.command.DeleteEquipmentCommand;
+import com.pcpedia.api.inventory.application.service.EquipmentStatusHistoryService;
+import com.pcpedia.api.inventory.application.service.ProductModelStockService;
 import com.pcpedia.api.inventory.domain.model.aggregate.Equipment;
 import com.pcpedia.api.inventory.domain.model.enums.EquipmentStatus;
+import com.pcpedia.api.inventory.domain.model.event.EquipmentStatusChangedEvent;
 import com.pcpedia.api.inventory.domain.repository.EquipmentRepository;
 import com.pcpedia.api.shared.application.cqrs.CommandHandler;
 import com.pcpedia.api.shared.infrastructure.exception.BadRequestException;
@@ -19,6 +22,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteEquipmentCommandHandler implements CommandHandler<DeleteEquipmentCommand, Void> {
 
     private final EquipmentRepository equipmentRepository;
+    private final ProductModelStockService productModelStockService;
+    private final EquipmentStatusHistoryService equipmentStatusHistoryService;
     private final MessageSource messageSource;
 
     @Override
@@ -45,6 +50,9 @@ public class DeleteEquipmentCommandHandler implements CommandHandler<DeleteEquip
         }
 
         equipmentRepository.delete(equipment);
+        productModelStockService.unregisterUnit(equipment.getProductModelId(), equipment.getStatus());
+        equipmentStatusHistoryService.record(new EquipmentStatusChangedEvent(
+                equipment.getId(), equipment.getProductModelId(), equipment.getStatus(), null));
         return null;
     }
 }
@@ -0,0 +1,42 @@
+package com.pcpedia.api.inventory.application.handler.query;
+
+import com.pcpedia.api.inventory.application.dto.response.EquipmentResponse;
+import com.pcpedia.api.inventory.application.mapper.EquipmentMapper;
+import com.pcpedia.api.inventory.application.query.GetEquipmentCursorPageQuery;
+import com.pcpedia.api.inventory.domain.model.aggregate.Equipment;
+import com.pcpedia.api.inventory.domain.repository.EquipmentRepository;
+import com.pcpedia.api.shared.application.cqrs.QueryHandler;
+import com.pcpedia.api.shared.application.pagination.CursorPage;
+import com.pcpedia.api.shared.application.pagination.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetEquipmentCursorPageQueryHandler implements QueryHandler<GetEquipmentCursorPageQuery, CursorPage<EquipmentResponse>> {
+
+    private final EquipmentRepository equipmentRepository;
+    private final EquipmentMapper equipmentMapper;
+
+    @Override
+    public CursorPage<EquipmentResponse> handle(GetEquipmentCursorPageQuery query) {
+        KeysetCursor cursor = KeysetCursor.decode(query.getAfter());
+
+        List<Equipment> rows = equipmentRepository.findPageAfter(
+                StringUtils.hasText(query.getSearch()) ? query.getSearch() : null,
+                StringUtils.hasText(query.getCategory()) ? query.getCategory() : null,
+                cursor.getCreatedAt(),
+                cursor.getId(),
+                CursorPage.probe(query.getSize())
+        );
+
+        return CursorPage.of(rows, query.getSize(),
+                e -> new KeysetCursor(e.getCreatedAt(), e.getId()),
+                equipmentMapper::toResponse);
+    }
+}
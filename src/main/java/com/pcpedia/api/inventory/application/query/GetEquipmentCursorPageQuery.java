@@ -0,0 +1,21 @@
+package com.pcpedia.api.inventory.application.query;
+
+import com.pcpedia.api.inventory.application.dto.response.EquipmentResponse;
+import com.pcpedia.api.shared.application.cqrs.Query;
+import com.pcpedia.api.shared.application.pagination.CursorPage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetEquipmentCursorPageQuery implements Query<CursorPage<EquipmentResponse>> {
+
+    private String after;
+    private int size;
+    private String search;
+    private String category;
+}
@@ -0,0 +1,176 @@
+package com.pcpedia.api.inventory.application.service;
+
+import com.pcpedia.api.inventory.domain.model.aggregate.ProductModel;
+import com.pcpedia.api.inventory.domain.model.entity.ProductModelAttribute;
+import com.pcpedia.api.inventory.domain.model.enums.SpecificationAttribute;
+import com.pcpedia.api.inventory.domain.repository.ProductModelAttributeRepository;
+import com.pcpedia.api.inventory.domain.repository.ProductModelRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory bitset index over the attributes of active product models.
+ * Each (attribute, value) pair owns a BitSet of model ordinals; ordinals follow model name order,
+ * so iterating a match set yields models already sorted for the catalog.
+ * The snapshot is rebuilt lazily after any attribute change commits. Each snapshot is stamped with the
+ * generation it was built from, so a build that overlaps an invalidation is never served as current.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogFacetIndex {
+
+    private final ProductModelRepository productModelRepository;
+    private final ProductModelAttributeRepository productModelAttributeRepository;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Filters are OR-ed within an attribute and AND-ed across attributes. Facet counts for an attribute
+     * ignore that attribute's own filter, so clients can still widen a selection they already made.
+     */
+    public Result search(Map<SpecificationAttribute, Set<String>> filters, Collection<Long> candidateIds) {
+        Snapshot current = current();
+
+        BitSet candidates = new BitSet(current.modelIds.length);
+        for (Long id : candidateIds) {
+            Integer ordinal = current.ordinals.get(id);
+            if (ordinal != null) {
+                candidates.set(ordinal);
+            }
+        }
+
+        Map<SpecificationAttribute, BitSet> allowed = new EnumMap<>(SpecificationAttribute.class);
+        filters.forEach((attribute, values) -> {
+            BitSet union = new BitSet(current.modelIds.length);
+            Map<String, BitSet> postings = current.postings.getOrDefault(attribute, Map.of());
+            for (String value : values) {
+                BitSet bits = postings.get(value);
+                if (bits != null) {
+                    union.or(bits);
+                }
+            }
+            allowed.put(attribute, union);
+        });
+
+        BitSet matches = (BitSet) candidates.clone();
+        allowed.values().forEach(matches::and);
+
+        Map<SpecificationAttribute, Map<String, Long>> facets = new EnumMap<>(SpecificationAttribute.class);
+        current.postings.forEach((attribute, postings) -> {
+            BitSet base = matches;
+            if (allowed.containsKey(attribute)) {
+                base = (BitSet) candidates.clone();
+                for (Map.Entry<SpecificationAttribute, BitSet> entry : allowed.entrySet()) {
+                    if (entry.getKey() != attribute) {
+                        base.and(entry.getValue());
+                    }
+                }
+            }
+
+            Map<String, Long> counts = new LinkedHashMap<>();
+            for (Map.Entry<String, BitSet> posting : postings.entrySet()) {
+                BitSet hit = (BitSet) posting.getValue().clone();
+                hit.and(base);
+                int count = hit.cardinality();
+                if (count > 0) {
+                    counts.put(posting.getKey(), (long) count);
+                }
+            }
+            facets.put(attribute, counts);
+        });
+
+        List<Long> matchedIds = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            matchedIds.add(current.modelIds[i]);
+        }
+        return new Result(matchedIds, facets);
+    }
+
+    /**
+     * Marks the snapshot stale once the current transaction commits, or immediately outside a transaction.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generation.incrementAndGet();
+                }
+            });
+        } else {
+            generation.incrementAndGet();
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null || current.generation != generation.get()) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null || current.generation != generation.get()) {
+                    current = build(generation.get());
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    // The generation is read before the queries: an invalidation during the build leaves this snapshot stale
+    private Snapshot build(long builtFrom) {
+        List<ProductModel> models = productModelRepository.findByIsActiveTrueOrderByNameAsc();
+
+        long[] modelIds = new long[models.size()];
+        Map<Long, Integer> ordinals = new HashMap<>();
+        for (int i = 0; i < models.size(); i++) {
+            modelIds[i] = models.get(i).getId();
+            ordinals.put(modelIds[i], i);
+        }
+
+        Map<SpecificationAttribute, Map<String, BitSet>> postings = new EnumMap<>(SpecificationAttribute.class);
+        for (ProductModelAttribute attribute : productModelAttributeRepository.findAllOfActiveModels()) {
+            Integer ordinal = ordinals.get(attribute.getProductModelId());
+            if (ordinal == null) {
+                continue;
+            }
+            postings.computeIfAbsent(attribute.getAttribute(), a -> new TreeMap<>())
+                    .computeIfAbsent(attribute.getValue(), v -> new BitSet(modelIds.length))
+                    .set(ordinal);
+        }
+
+        return new Snapshot(builtFrom, modelIds, ordinals, postings);
+    }
+
+    @AllArgsConstructor
+    private static class Snapshot {
+        private final long generation;
+        private final long[] modelIds;
+        private final Map<Long, Integer> ordinals;
+        private final Map<SpecificationAttribute, Map<String, BitSet>> postings;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private final List<Long> productModelIds;
+        private final Map<SpecificationAttribute, Map<String, Long>> facets;
+    }
+}
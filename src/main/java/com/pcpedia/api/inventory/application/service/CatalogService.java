@@ -1,25 +1,41 @@
 package com.pcpedia.api.inventory.application.service;
 
 import com.pcpedia.api.inventory.application.dto.response.CatalogEquipmentResponse;
+import com.pcpedia.api.inventory.application.dto.response.CatalogFacetResponse;
 import com.pcpedia.api.inventory.application.dto.response.CatalogProductModelResponse;
 import com.pcpedia.api.inventory.application.handler.query.GetAvailableEquipmentQueryHandler;
 import com.pcpedia.api.inventory.application.mapper.EquipmentMapper;
 import com.pcpedia.api.inventory.application.query.GetAvailableEquipmentQuery;
 import com.pcpedia.api.inventory.domain.model.aggregate.Equipment;
 import com.pcpedia.api.inventory.domain.model.aggregate.ProductModel;
+import com.pcpedia.api.inventory.domain.model.entity.ProductModelStock;
 import com.pcpedia.api.inventory.domain.model.enums.EquipmentStatus;
+import com.pcpedia.api.inventory.domain.model.enums.SpecificationAttribute;
 import com.pcpedia.api.inventory.domain.repository.EquipmentRepository;
 import com.pcpedia.api.inventory.domain.repository.ProductModelRepository;
+import com.pcpedia.api.inventory.domain.repository.ProductModelStockRepository;
+import com.pcpedia.api.shared.infrastructure.exception.BadRequestException;
 import com.pcpedia.api.shared.infrastructure.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +45,10 @@ public class CatalogService {
     private final GetAvailableEquipmentQueryHandler getAvailableEquipmentHandler;
     private final EquipmentRepository equipmentRepository;
     private final ProductModelRepository productModelRepository;
+    private final ProductModelStockService productModelStockService;
+    private final ProductModelStockRepository productModelStockRepository;
+    private final CatalogFacetIndex catalogFacetIndex;
+    private final SpecificationParser specificationParser;
     private final EquipmentMapper equipmentMapper;
     private final MessageSource messageSource;
 
@@ -86,7 +106,10 @@ public class CatalogService {
             page = productModelRepository.findActiveWithStock(pageable);
         }
 
-        return page.map(this::mapToCatalogResponse);
+        Map<Long, ProductModelStock> stockByModel = productModelStockService.getStockByProductModelIds(
+                page.map(ProductModel::getId).getContent());
+
+        return page.map(pm -> mapToCatalogResponse(pm, stockByModel.get(pm.getId())));
     }
 
     public CatalogProductModelResponse getProductModelById(Long id) {
@@ -101,11 +124,82 @@ public class CatalogService {
                     return new ResourceNotFoundException(message);
                 });
 
-        return mapToCatalogResponse(productModel);
+        return mapToCatalogResponse(productModel, productModelStockService.getStock(id));
+    }
+
+    /**
+     * Faceted browse over in-stock product models. Filters use the form {@code attribute:value},
+     * e.g. {@code ram:16 GB}; repeating an attribute widens the selection.
+     */
+    public CatalogFacetResponse getProductModelFacets(Collection<String> filters, Pageable pageable) {
+        CatalogFacetIndex.Result result = catalogFacetIndex.search(
+                parseFilters(filters),
+                productModelStockRepository.findProductModelIdsWithAvailableStock());
+
+        List<Long> matchedIds = result.getProductModelIds();
+        int from = (int) Math.min(pageable.getOffset(), matchedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), matchedIds.size());
+        List<Long> pageIds = matchedIds.subList(from, to);
+
+        Map<Long, ProductModel> modelsById = productModelRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(ProductModel::getId, Function.identity()));
+        Map<Long, ProductModelStock> stockByModel = productModelStockService.getStockByProductModelIds(pageIds);
+
+        List<CatalogProductModelResponse> content = pageIds.stream()
+                .map(modelsById::get)
+                .filter(Objects::nonNull)
+                .map(pm -> mapToCatalogResponse(pm, stockByModel.get(pm.getId())))
+                .toList();
+
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        result.getFacets().forEach((attribute, counts) ->
+                facets.put(attribute.name().toLowerCase(Locale.ROOT), counts));
+
+        return CatalogFacetResponse.builder()
+                .models(new PageImpl<>(content, pageable, matchedIds.size()))
+                .facets(facets)
+                .build();
+    }
+
+    private Map<SpecificationAttribute, Set<String>> parseFilters(Collection<String> filters) {
+        Map<SpecificationAttribute, Set<String>> parsed = new EnumMap<>(SpecificationAttribute.class);
+        if (filters == null) {
+            return parsed;
+        }
+
+        for (String filter : filters) {
+            int colon = filter.indexOf(':');
+            if (colon <= 0 || colon == filter.length() - 1) {
+                String message = messageSource.getMessage(
+                        "catalog.filter.invalid",
+                        new Object[]{filter},
+                        "Invalid filter, expected attribute:value: " + filter,
+                        LocaleContextHolder.getLocale()
+                );
+                throw new BadRequestException(message);
+            }
+
+            SpecificationAttribute attribute;
+            try {
+                attribute = SpecificationAttribute.valueOf(filter.substring(0, colon).trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                String message = messageSource.getMessage(
+                        "catalog.filter.unknown-attribute",
+                        new Object[]{filter.substring(0, colon)},
+                        "Unknown filter attribute: " + filter.substring(0, colon),
+                        LocaleContextHolder.getLocale()
+                );
+                throw new BadRequestException(message);
+            }
+
+            parsed.computeIfAbsent(attribute, a -> new LinkedHashSet<>())
+                    .add(specificationParser.normalize(attribute, filter.substring(colon + 1)));
+        }
+        return parsed;
     }
 
-    private CatalogProductModelResponse mapToCatalogResponse(ProductModel pm) {
-        long available = equipmentRepository.countByProductModelIdAndStatus(pm.getId(), EquipmentStatus.AVAILABLE);
+    private CatalogProductModelResponse mapToCatalogResponse(ProductModel pm, ProductModelStock stock) {
+        long available = stock != null ? stock.getAvailableCount() : 0L;
 
         return CatalogProductModelResponse.builder()
                 .id(pm.getId())
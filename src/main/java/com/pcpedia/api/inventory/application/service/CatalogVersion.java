@@ -0,0 +1,54 @@
+package com.pcpedia.api.inventory.application.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic inventory change counter backing catalog ETags.
+ * The epoch prefix changes on every restart, so tags issued by a previous process never validate.
+ */
+@Component
+public class CatalogVersion {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong counter = new AtomicLong();
+
+    // HTTP dates have second precision, keep it aligned so If-Modified-Since compares cleanly
+    private volatile long lastModified = truncatedNow();
+
+    /**
+     * Advances the version once the current transaction commits, or immediately outside a transaction.
+     */
+    public void bump() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    advance();
+                }
+            });
+        } else {
+            advance();
+        }
+    }
+
+    public String etag() {
+        return "\"catalog-" + epoch + "-" + counter.get() + "\"";
+    }
+
+    public long lastModified() {
+        return lastModified;
+    }
+
+    private void advance() {
+        counter.incrementAndGet();
+        lastModified = truncatedNow();
+    }
+
+    private static long truncatedNow() {
+        return System.currentTimeMillis() / 1000 * 1000;
+    }
+}
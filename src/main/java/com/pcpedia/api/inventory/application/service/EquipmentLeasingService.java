@@ -0,0 +1,107 @@
+package com.pcpedia.api.inventory.application.service;
+
+import com.pcpedia.api.inventory.domain.model.enums.EquipmentStatus;
+import com.pcpedia.api.inventory.domain.model.event.EquipmentStatusChangedEvent;
+import com.pcpedia.api.inventory.domain.repository.EquipmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Set-based equipment status changes for leasing.
+ * Each call is a single conditional UPDATE, so concurrent contracts can never lease the same unit:
+ * the database row lock serializes them and the loser sees the unit already LEASED.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class EquipmentLeasingService {
+
+    private final EquipmentRepository equipmentRepository;
+    private final ProductModelStockService productModelStockService;
+    private final EquipmentStatusHistoryService equipmentStatusHistoryService;
+    private final MessageSource messageSource;
+
+    /**
+     * Leases every unit or none. If any unit is missing or no longer AVAILABLE the call throws,
+     * rolling back the caller's transaction together with the units already flipped by this statement.
+     */
+    public void leaseAll(Collection<Long> equipmentIds) {
+        // Ascending id order keeps lock acquisition consistent across concurrent callers
+        Set<Long> ids = new TreeSet<>(equipmentIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        int leased = equipmentRepository.transitionStatus(ids, EquipmentStatus.AVAILABLE, EquipmentStatus.LEASED, LocalDateTime.now());
+        if (leased != ids.size()) {
+            throw new IllegalStateException(getMessage("equipment.already-rented"));
+        }
+
+        afterTransition(equipmentRepository.findProductModelIdsByIds(ids), EquipmentStatus.AVAILABLE, EquipmentStatus.LEASED);
+    }
+
+    /**
+     * Returns the currently LEASED units among {@code equipmentIds} to AVAILABLE. Units in any other
+     * status (e.g. sent to maintenance during the lease) are left alone.
+     *
+     * @return number of units released
+     */
+    public int releaseAll(Collection<Long> equipmentIds) {
+        Set<Long> ids = new TreeSet<>(equipmentIds);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> leased = equipmentRepository.findProductModelIdsByIdsAndStatus(ids, EquipmentStatus.LEASED);
+        if (leased.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> leasedIds = new TreeSet<>();
+        leased.forEach(row -> leasedIds.add((Long) row[0]));
+
+        int released = equipmentRepository.transitionStatus(leasedIds, EquipmentStatus.LEASED, EquipmentStatus.AVAILABLE, LocalDateTime.now());
+        if (released != leasedIds.size()) {
+            // A unit changed status between the read and the update; let the caller retry on fresh state
+            throw new IllegalStateException(getMessage("equipment.status-conflict"));
+        }
+
+        afterTransition(leased, EquipmentStatus.LEASED, EquipmentStatus.AVAILABLE);
+        return released;
+    }
+
+    /**
+     * A bulk UPDATE skips entity domain events, so the stock projection and the status history
+     * are fed here for the units that actually moved, given as [equipmentId, productModelId] rows.
+     */
+    private void afterTransition(List<Object[]> units, EquipmentStatus from, EquipmentStatus to) {
+        List<EquipmentStatusChangedEvent> events = new ArrayList<>();
+        for (Object[] row : units) {
+            events.add(new EquipmentStatusChangedEvent((Long) row[0], (Long) row[1], from, to));
+        }
+
+        Map<Long, Long> unitsByModel = events.stream()
+                .filter(event -> event.getProductModelId() != null)
+                .collect(Collectors.groupingBy(EquipmentStatusChangedEvent::getProductModelId, Collectors.counting()));
+        unitsByModel.forEach((productModelId, units) ->
+                productModelStockService.applyTransition(productModelId, from, to, units));
+
+        equipmentStatusHistoryService.recordAll(events);
+    }
+
+    private String getMessage(String key) {
+        return messageSource.getMessage(key, null, key, LocaleContextHolder.getLocale());
+    }
+}
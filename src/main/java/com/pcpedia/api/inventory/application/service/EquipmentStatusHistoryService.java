@@ -0,0 +1,92 @@
+package com.pcpedia.api.inventory.application.service;
+
+import com.pcpedia.api.inventory.domain.model.event.EquipmentStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Appends equipment status changes to equipment_status_events.
+ * Changes are buffered per transaction and written with one JDBC batch right before commit,
+ * so a contract leasing twenty units costs one round trip instead of twenty inserts.
+ */
+@Service
+@RequiredArgsConstructor
+public class EquipmentStatusHistoryService {
+
+    private static final String INSERT_SQL = "INSERT INTO equipment_status_events " +
+            "(equipment_id, product_model_id, previous_status, new_status, occurred_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener
+    public void onEquipmentStatusChanged(EquipmentStatusChangedEvent event) {
+        record(event);
+    }
+
+    public void record(EquipmentStatusChangedEvent event) {
+        recordAll(List.of(event));
+    }
+
+    public void recordAll(Collection<EquipmentStatusChangedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = events.stream()
+                .map(event -> new Object[]{
+                        event.getEquipmentId(),
+                        event.getProductModelId(),
+                        event.getPreviousStatus() != null ? event.getPreviousStatus().name() : null,
+                        event.getNewStatus() != null ? event.getNewStatus().name() : null,
+                        Timestamp.valueOf(now)
+                })
+                .toList();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            insert(rows);
+            return;
+        }
+        pendingRows().addAll(rows);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> pendingRows() {
+        List<Object[]> pending = (List<Object[]>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Object[]> buffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    insert(buffer);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(EquipmentStatusHistoryService.this);
+                }
+            });
+            pending = buffer;
+        }
+        return pending;
+    }
+
+    private void insert(List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows,
+                    new int[]{Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP});
+        }
+    }
+}
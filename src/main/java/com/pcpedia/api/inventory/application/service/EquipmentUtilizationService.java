@@ -0,0 +1,164 @@
+package com.pcpedia.api.inventory.application.service;
+
+import com.pcpedia.api.inventory.application.dto.response.UtilizationResponse;
+import com.pcpedia.api.inventory.domain.model.aggregate.ProductModel;
+import com.pcpedia.api.inventory.domain.model.entity.EquipmentUtilizationDaily;
+import com.pcpedia.api.inventory.domain.model.entity.ProductModelStock;
+import com.pcpedia.api.inventory.domain.model.enums.EquipmentStatus;
+import com.pcpedia.api.inventory.domain.repository.EquipmentStatusEventRepository;
+import com.pcpedia.api.inventory.domain.repository.EquipmentUtilizationDailyRepository;
+import com.pcpedia.api.inventory.domain.repository.ProductModelRepository;
+import com.pcpedia.api.inventory.domain.repository.ProductModelStockRepository;
+import com.pcpedia.api.shared.infrastructure.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Daily utilization rollups built from the status event log.
+ * End-of-day counts are the current stock projection with every later transition undone,
+ * which makes each day independent: a missed or repeated run never compounds an error.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class EquipmentUtilizationService {
+
+    private final EquipmentUtilizationDailyRepository utilizationRepository;
+    private final EquipmentStatusEventRepository equipmentStatusEventRepository;
+    private final ProductModelStockRepository productModelStockRepository;
+    private final ProductModelRepository productModelRepository;
+    private final MessageSource messageSource;
+
+    /**
+     * Rolls up every completed day since the last rollup. The first run only covers yesterday.
+     */
+    public int rollupPendingDays() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate day = utilizationRepository.findLastRolledUpDay()
+                .map(last -> last.plusDays(1))
+                .orElse(yesterday);
+
+        int days = 0;
+        for (; !day.isAfter(yesterday); day = day.plusDays(1)) {
+            rollupDay(day);
+            days++;
+        }
+        return days;
+    }
+
+    public void rollupDay(LocalDate day) {
+        Map<Long, Map<EquipmentStatus, Long>> counts = new HashMap<>();
+        for (ProductModelStock stock : productModelStockRepository.findAll()) {
+            Map<EquipmentStatus, Long> byStatus = new EnumMap<>(EquipmentStatus.class);
+            for (EquipmentStatus status : EquipmentStatus.values()) {
+                byStatus.put(status, stock.getCount(status));
+            }
+            counts.put(stock.getProductModelId(), byStatus);
+        }
+
+        // Undo transitions that happened after the day closed
+        for (Object[] row : equipmentStatusEventRepository.countTransitionsSince(day.plusDays(1).atStartOfDay())) {
+            Map<EquipmentStatus, Long> byStatus = counts.get((Long) row[0]);
+            if (byStatus == null) {
+                continue;
+            }
+            long units = (Long) row[3];
+            if (row[1] != null) {
+                byStatus.merge((EquipmentStatus) row[1], units, Long::sum);
+            }
+            if (row[2] != null) {
+                byStatus.merge((EquipmentStatus) row[2], -units, Long::sum);
+            }
+        }
+
+        Map<Long, String> categoryByModel = productModelRepository.findAllById(counts.keySet()).stream()
+                .filter(pm -> pm.getCategory() != null)
+                .collect(Collectors.toMap(ProductModel::getId, ProductModel::getCategory));
+
+        List<EquipmentUtilizationDaily> rows = new ArrayList<>();
+        counts.forEach((productModelId, byStatus) -> {
+            long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+            if (total <= 0) {
+                return;
+            }
+            rows.add(EquipmentUtilizationDaily.builder()
+                    .day(day)
+                    .productModelId(productModelId)
+                    .category(categoryByModel.get(productModelId))
+                    .availableUnits(Math.max(0, byStatus.get(EquipmentStatus.AVAILABLE)))
+                    .leasedUnits(Math.max(0, byStatus.get(EquipmentStatus.LEASED)))
+                    .maintenanceUnits(Math.max(0, byStatus.get(EquipmentStatus.MAINTENANCE)))
+                    .retiredUnits(Math.max(0, byStatus.get(EquipmentStatus.RETIRED)))
+                    .build());
+        });
+
+        utilizationRepository.deleteByDay(day);
+        utilizationRepository.saveAll(rows);
+    }
+
+    @Transactional(readOnly = true)
+    public List<UtilizationResponse> getUtilization(LocalDate from, LocalDate to, String groupBy, String category) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException(getMessage("utilization.range.invalid"));
+        }
+        String categoryFilter = StringUtils.hasText(category) ? category : null;
+
+        if ("category".equalsIgnoreCase(groupBy)) {
+            return utilizationRepository.sumByCategory(from, to, categoryFilter).stream()
+                    .map(row -> toResponse(null, null, (String) row[0], (Long) row[1], (Long) row[2], (Long) row[3]))
+                    .toList();
+        }
+        if (!"model".equalsIgnoreCase(groupBy)) {
+            throw new BadRequestException(getMessage("utilization.group-by.invalid"));
+        }
+
+        List<Object[]> rows = utilizationRepository.sumByProductModel(from, to, categoryFilter);
+        Map<Long, ProductModel> models = productModelRepository.findAllById(rows.stream().map(row -> (Long) row[0]).toList())
+                .stream()
+                .collect(Collectors.toMap(ProductModel::getId, Function.identity()));
+
+        return rows.stream()
+                .map(row -> {
+                    ProductModel model = models.get((Long) row[0]);
+                    return toResponse((Long) row[0], model != null ? model.getName() : null,
+                            (String) row[1], (Long) row[2], (Long) row[3], (Long) row[4]);
+                })
+                .toList();
+    }
+
+    private UtilizationResponse toResponse(Long productModelId, String productModelName, String category,
+                                           Long days, Long leasedUnitDays, Long fleetUnitDays) {
+        BigDecimal utilization = fleetUnitDays == null || fleetUnitDays == 0
+                ? BigDecimal.ZERO
+                : BigDecimal.valueOf(leasedUnitDays).divide(BigDecimal.valueOf(fleetUnitDays), 4, RoundingMode.HALF_UP);
+
+        return UtilizationResponse.builder()
+                .productModelId(productModelId)
+                .productModelName(productModelName)
+                .category(category)
+                .days(days)
+                .leasedUnitDays(leasedUnitDays)
+                .fleetUnitDays(fleetUnitDays)
+                .utilization(utilization)
+                .build();
+    }
+
+    private String getMessage(String key) {
+        return messageSource.getMessage(key, null, key, LocaleContextHolder.getLocale());
+    }
+}
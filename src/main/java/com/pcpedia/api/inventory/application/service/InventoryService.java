@@ -10,16 +10,23 @@ import com.pcpedia.api.inventory.application.handler.command.CreateEquipmentComm
 import com.pcpedia.api.inventory.application.handler.command.DeleteEquipmentCommandHandler;
 import com.pcpedia.api.inventory.application.handler.command.UpdateEquipmentCommandHandler;
 import com.pcpedia.api.inventory.application.handler.query.GetAllEquipmentQueryHandler;
+import com.pcpedia.api.inventory.application.handler.query.GetEquipmentCursorPageQueryHandler;
 import com.pcpedia.api.inventory.application.handler.query.GetEquipmentByIdQueryHandler;
 import com.pcpedia.api.inventory.application.query.GetAllEquipmentQuery;
 import com.pcpedia.api.inventory.application.query.GetEquipmentByIdQuery;
+import com.pcpedia.api.inventory.application.query.GetEquipmentCursorPageQuery;
 import com.pcpedia.api.inventory.domain.model.enums.EquipmentStatus;
 import com.pcpedia.api.inventory.domain.repository.EquipmentRepository;
+import com.pcpedia.api.shared.application.pagination.CursorPage;
+import com.pcpedia.api.shared.infrastructure.export.ExportFormat;
+import com.pcpedia.api.shared.infrastructure.export.StreamingExporter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.Arrays;
 import java.util.List;
 
 @Service
@@ -35,8 +42,10 @@ public class InventoryService {
     // Query Handlers
     private final GetEquipmentByIdQueryHandler getEquipmentByIdHandler;
     private final GetAllEquipmentQueryHandler getAllEquipmentHandler;
+    private final GetEquipmentCursorPageQueryHandler getEquipmentCursorPageHandler;
 
     private final EquipmentRepository equipmentRepository;
+    private final StreamingExporter streamingExporter;
 
     // Commands
     public Long createEquipment(CreateEquipmentCommand command) {
@@ -70,7 +79,29 @@ public class InventoryService {
         );
     }
 
+    public CursorPage<EquipmentResponse> getEquipmentAfter(String after, int size, String search, String category) {
+        return getEquipmentCursorPageHandler.handle(
+                GetEquipmentCursorPageQuery.builder()
+                        .after(after)
+                        .size(size)
+                        .search(search)
+                        .category(category)
+                        .build()
+        );
+    }
+
     public List<String> getAllCategories() {
         return equipmentRepository.findAllCategories();
     }
+
+    public StreamingResponseBody exportEquipment(ExportFormat format) {
+        return streamingExporter.export(format,
+                List.of("id", "productModelId", "name", "brand", "model", "serialNumber", "category", "status",
+                        "basePrice", "purchaseDate"),
+                equipmentRepository::streamAllForExport,
+                // getId() on the lazy product model proxy does not hit the database
+                e -> Arrays.asList(e.getId(), e.getProductModel() != null ? e.getProductModel().getId() : null,
+                        e.getName(), e.getBrand(), e.getModel(), e.getSerialNumber(), e.getCategory(), e.getStatus(),
+                        e.getBasePrice(), e.getPurchaseDate()));
+    }
 }
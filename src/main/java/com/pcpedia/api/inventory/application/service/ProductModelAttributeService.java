@@ -0,0 +1,68 @@
+package com.pcpedia.api.inventory.application.service;
+
+import com.pcpedia.api.inventory.domain.model.aggregate.ProductModel;
+import com.pcpedia.api.inventory.domain.model.entity.ProductModelAttribute;
+import com.pcpedia.api.inventory.domain.model.enums.SpecificationAttribute;
+import com.pcpedia.api.inventory.domain.repository.ProductModelAttributeRepository;
+import com.pcpedia.api.inventory.domain.repository.ProductModelRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps product_model_attributes in line with each model's specifications text.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ProductModelAttributeService {
+
+    private final ProductModelAttributeRepository productModelAttributeRepository;
+    private final ProductModelRepository productModelRepository;
+    private final SpecificationParser specificationParser;
+    private final CatalogFacetIndex catalogFacetIndex;
+
+    public void reindex(ProductModel productModel) {
+        productModelAttributeRepository.deleteByProductModelId(productModel.getId());
+        productModelAttributeRepository.saveAll(toAttributes(productModel));
+        catalogFacetIndex.invalidate();
+    }
+
+    public int reindexAll() {
+        List<ProductModel> models = productModelRepository.findAll();
+        productModelAttributeRepository.deleteAllInBatch();
+
+        List<ProductModelAttribute> attributes = new ArrayList<>();
+        for (ProductModel productModel : models) {
+            attributes.addAll(toAttributes(productModel));
+        }
+        productModelAttributeRepository.saveAll(attributes);
+        catalogFacetIndex.invalidate();
+        return attributes.size();
+    }
+
+    private List<ProductModelAttribute> toAttributes(ProductModel productModel) {
+        Map<SpecificationAttribute, String> values = specificationParser.parse(productModel.getSpecifications());
+        if (StringUtils.hasText(productModel.getCategory())) {
+            values.put(SpecificationAttribute.CATEGORY,
+                    specificationParser.normalize(SpecificationAttribute.CATEGORY, productModel.getCategory()));
+        }
+        if (StringUtils.hasText(productModel.getBrand())) {
+            values.put(SpecificationAttribute.BRAND,
+                    specificationParser.normalize(SpecificationAttribute.BRAND, productModel.getBrand()));
+        }
+
+        return values.entrySet().stream()
+                .map(entry -> ProductModelAttribute.builder()
+                        .productModelId(productModel.getId())
+                        .attribute(entry.getKey())
+                        .value(entry.getValue())
+                        .build())
+                .toList();
+    }
+}
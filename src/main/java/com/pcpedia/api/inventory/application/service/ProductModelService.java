@@ -5,7 +5,9 @@ import com.pcpedia.api.inventory.application.dto.request.CreateProductModelReque
 import com.pcpedia.api.inventory.application.dto.response.ProductModelResponse;
 import com.pcpedia.api.inventory.domain.model.aggregate.Equipment;
 import com.pcpedia.api.inventory.domain.model.aggregate.ProductModel;
+import com.pcpedia.api.inventory.domain.model.entity.ProductModelStock;
 import com.pcpedia.api.inventory.domain.model.enums.EquipmentStatus;
+import com.pcpedia.api.inventory.domain.model.event.EquipmentStatusChangedEvent;
 import com.pcpedia.api.inventory.domain.repository.EquipmentRepository;
 import com.pcpedia.api.inventory.domain.repository.ProductModelRepository;
 import com.pcpedia.api.shared.infrastructure.exception.BadRequestException;
@@ -18,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +28,10 @@ public class ProductModelService {
 
     private final ProductModelRepository productModelRepository;
     private final EquipmentRepository equipmentRepository;
+    private final ProductModelStockService productModelStockService;
+    private final EquipmentStatusHistoryService equipmentStatusHistoryService;
+    private final ProductModelAttributeService productModelAttributeService;
+    private final CatalogFacetIndex catalogFacetIndex;
 
     @Transactional
     public Long createProductModel(CreateProductModelRequest request) {
@@ -39,7 +46,10 @@ public class ProductModelService {
                 .isActive(true)
                 .build();
 
-        return productModelRepository.save(productModel).getId();
+        productModel = productModelRepository.save(productModel);
+        productModelStockService.createFor(productModel.getId());
+        productModelAttributeService.reindex(productModel);
+        return productModel.getId();
     }
 
     @Transactional
@@ -56,12 +66,13 @@ public class ProductModelService {
         productModel.setImageUrl(request.getImageUrl());
 
         productModelRepository.save(productModel);
+        productModelAttributeService.reindex(productModel);
     }
 
     public ProductModelResponse getProductModelById(Long id) {
         ProductModel productModel = productModelRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Product model not found"));
-        return mapToResponse(productModel);
+        return mapToResponse(productModel, productModelStockService.getStock(id));
     }
 
     public Page<ProductModelResponse> getAllProductModels(Pageable pageable, String search, String category) {
@@ -75,13 +86,17 @@ public class ProductModelService {
             page = productModelRepository.findByIsActiveTrue(pageable);
         }
 
-        return page.map(this::mapToResponse);
+        Map<Long, ProductModelStock> stockByModel = productModelStockService.getStockByProductModelIds(
+                page.map(ProductModel::getId).getContent());
+        return page.map(pm -> mapToResponse(pm, stockByModel.get(pm.getId())));
     }
 
     public List<ProductModelResponse> getAllActiveModels() {
-        return productModelRepository.findByIsActiveTrueOrderByNameAsc()
-                .stream()
-                .map(this::mapToResponse)
+        List<ProductModel> models = productModelRepository.findByIsActiveTrueOrderByNameAsc();
+        Map<Long, ProductModelStock> stockByModel = productModelStockService.getStockByProductModelIds(
+                models.stream().map(ProductModel::getId).toList());
+        return models.stream()
+                .map(pm -> mapToResponse(pm, stockByModel.get(pm.getId())))
                 .toList();
     }
 
@@ -98,6 +113,7 @@ public class ProductModelService {
 
         productModel.setIsActive(false);
         productModelRepository.save(productModel);
+        catalogFacetIndex.invalidate();
     }
 
     @Transactional
@@ -131,14 +147,21 @@ public class ProductModelService {
         }
 
         equipmentRepository.saveAll(equipments);
+        productModelStockService.registerUnits(productModel.getId(), EquipmentStatus.AVAILABLE, equipments.size());
+        equipmentStatusHistoryService.recordAll(equipments.stream()
+                .map(e -> new EquipmentStatusChangedEvent(e.getId(), productModel.getId(), null, EquipmentStatus.AVAILABLE))
+                .toList());
         return equipments.size();
     }
 
-    private ProductModelResponse mapToResponse(ProductModel pm) {
-        long total = equipmentRepository.countByProductModelId(pm.getId());
-        long available = equipmentRepository.countByProductModelIdAndStatus(pm.getId(), EquipmentStatus.AVAILABLE);
-        long leased = equipmentRepository.countByProductModelIdAndStatus(pm.getId(), EquipmentStatus.LEASED);
-        long maintenance = equipmentRepository.countByProductModelIdAndStatus(pm.getId(), EquipmentStatus.MAINTENANCE);
+    private ProductModelResponse mapToResponse(ProductModel pm, ProductModelStock stock) {
+        if (stock == null) {
+            stock = ProductModelStock.empty(pm.getId());
+        }
+        long total = stock.getTotalCount();
+        long available = stock.getAvailableCount();
+        long leased = stock.getLeasedCount();
+        long maintenance = stock.getMaintenanceCount();
 
         return ProductModelResponse.builder()
                 .id(pm.getId())
@@ -0,0 +1,90 @@
+package com.pcpedia.api.inventory.application.service;
+
+import com.pcpedia.api.inventory.domain.model.entity.ProductModelStock;
+import com.pcpedia.api.inventory.domain.model.enums.EquipmentStatus;
+import com.pcpedia.api.inventory.domain.model.event.EquipmentStatusChangedEvent;
+import com.pcpedia.api.inventory.domain.repository.ProductModelStockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the product_model_stock projection.
+ * Every write joins the caller's transaction so counts commit or roll back together with the equipment change.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ProductModelStockService {
+
+    private final ProductModelStockRepository productModelStockRepository;
+    private final CatalogVersion catalogVersion;
+
+    @EventListener
+    public void onEquipmentStatusChanged(EquipmentStatusChangedEvent event) {
+        applyTransition(event.getProductModelId(), event.getPreviousStatus(), event.getNewStatus(), 1);
+    }
+
+    public void createFor(Long productModelId) {
+        productModelStockRepository.save(ProductModelStock.empty(productModelId));
+    }
+
+    public void registerUnits(Long productModelId, EquipmentStatus status, long units) {
+        applyTransition(productModelId, null, status, units);
+    }
+
+    public void unregisterUnit(Long productModelId, EquipmentStatus status) {
+        applyTransition(productModelId, status, null, 1);
+    }
+
+    /**
+     * Moves {@code units} equipment of a product model from one status bucket to another.
+     * A null status on either side means the units are entering or leaving the inventory.
+     */
+    public void applyTransition(Long productModelId, EquipmentStatus from, EquipmentStatus to, long units) {
+        if (productModelId == null || from == to || units == 0) {
+            return;
+        }
+
+        long available = delta(EquipmentStatus.AVAILABLE, from, to) * units;
+        long leased = delta(EquipmentStatus.LEASED, from, to) * units;
+        long maintenance = delta(EquipmentStatus.MAINTENANCE, from, to) * units;
+        long retired = delta(EquipmentStatus.RETIRED, from, to) * units;
+
+        int updated = productModelStockRepository.adjustCounts(productModelId, available, leased, maintenance, retired);
+        if (updated == 0) {
+            // Model predates the projection and was not picked up by the startup rebuild
+            productModelStockRepository.saveAndFlush(ProductModelStock.empty(productModelId));
+            productModelStockRepository.adjustCounts(productModelId, available, leased, maintenance, retired);
+        }
+        // Covers bulk status updates that skip the equipment entity listener
+        catalogVersion.bump();
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, ProductModelStock> getStockByProductModelIds(Collection<Long> productModelIds) {
+        return productModelStockRepository.findAllById(productModelIds)
+                .stream()
+                .collect(Collectors.toMap(ProductModelStock::getProductModelId, Function.identity()));
+    }
+
+    @Transactional(readOnly = true)
+    public ProductModelStock getStock(Long productModelId) {
+        return productModelStockRepository.findById(productModelId)
+                .orElseGet(() -> ProductModelStock.empty(productModelId));
+    }
+
+    public int rebuild() {
+        return productModelStockRepository.rebuildAll();
+    }
+
+    private static long delta(EquipmentStatus bucket, EquipmentStatus from, EquipmentStatus to) {
+        return (bucket == to ? 1 : 0) - (bucket == from ? 1 : 0);
+    }
+}
@@ -0,0 +1,147 @@
+package com.pcpedia.api.inventory.application.service;
+
+import com.pcpedia.api.inventory.domain.model.enums.SpecificationAttribute;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.text.Normalizer;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns free-text specifications such as "Intel Core i7, 16GB RAM, 512GB SSD"
+ * or "Procesador: Ryzen 5; Memoria: 8 GB" into typed attributes.
+ * Values are normalized so equal hardware lands in the same facet bucket.
+ */
+@Component
+public class SpecificationParser {
+
+    private static final int MAX_VALUE_LENGTH = 100;
+
+    private static final Pattern SEPARATORS = Pattern.compile("[\\n\\r;,|]+");
+    private static final Pattern RAM = Pattern.compile("(\\d+)\\s*GB\\s*(?:DE\\s*)?(?:RAM|DDR\\d*)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CAPACITY = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*(GB|TB)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern STORAGE = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*(GB|TB)\\s*(SSD|HDD|NVME|EMMC)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern DISK_TYPE = Pattern.compile("\\b(SSD|HDD|NVME|EMMC)\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern DISPLAY = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*(?:\"|''|PULGADAS|INCH|IN\\b)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CPU = Pattern.compile("\\b(INTEL|AMD|RYZEN|CORE\\s*I\\d|CELERON|PENTIUM|XEON|APPLE\\s*M\\d|SNAPDRAGON)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern GPU = Pattern.compile("\\b(NVIDIA|GEFORCE|RTX|GTX|QUADRO|RADEON|IRIS|UHD\\s*GRAPHICS)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern OS = Pattern.compile("\\b(WINDOWS|LINUX|UBUNTU|MACOS|CHROME\\s*OS)", Pattern.CASE_INSENSITIVE);
+
+    private static final Map<String, SpecificationAttribute> LABELS = Map.ofEntries(
+            Map.entry("cpu", SpecificationAttribute.CPU),
+            Map.entry("procesador", SpecificationAttribute.CPU),
+            Map.entry("processor", SpecificationAttribute.CPU),
+            Map.entry("ram", SpecificationAttribute.RAM),
+            Map.entry("memoria", SpecificationAttribute.RAM),
+            Map.entry("memoria ram", SpecificationAttribute.RAM),
+            Map.entry("memory", SpecificationAttribute.RAM),
+            Map.entry("almacenamiento", SpecificationAttribute.STORAGE),
+            Map.entry("disco", SpecificationAttribute.STORAGE),
+            Map.entry("disco duro", SpecificationAttribute.STORAGE),
+            Map.entry("storage", SpecificationAttribute.STORAGE),
+            Map.entry("gpu", SpecificationAttribute.GPU),
+            Map.entry("graficos", SpecificationAttribute.GPU),
+            Map.entry("tarjeta grafica", SpecificationAttribute.GPU),
+            Map.entry("graphics", SpecificationAttribute.GPU),
+            Map.entry("pantalla", SpecificationAttribute.DISPLAY),
+            Map.entry("display", SpecificationAttribute.DISPLAY),
+            Map.entry("screen", SpecificationAttribute.DISPLAY),
+            Map.entry("so", SpecificationAttribute.OS),
+            Map.entry("os", SpecificationAttribute.OS),
+            Map.entry("sistema operativo", SpecificationAttribute.OS)
+    );
+
+    public Map<SpecificationAttribute, String> parse(String specifications) {
+        Map<SpecificationAttribute, String> attributes = new EnumMap<>(SpecificationAttribute.class);
+        if (!StringUtils.hasText(specifications)) {
+            return attributes;
+        }
+
+        for (String token : SEPARATORS.split(specifications)) {
+            String part = token.trim();
+            if (part.isEmpty()) {
+                continue;
+            }
+
+            int colon = part.indexOf(':');
+            if (colon > 0) {
+                SpecificationAttribute labelled = LABELS.get(normalizeLabel(part.substring(0, colon)));
+                String value = part.substring(colon + 1).trim();
+                if (labelled != null && !value.isEmpty()) {
+                    attributes.putIfAbsent(labelled, normalize(labelled, value));
+                    continue;
+                }
+                part = value;
+            }
+
+            inferFromToken(part, attributes);
+        }
+        return attributes;
+    }
+
+    /**
+     * Normalizes a single value the same way parsed specifications are, so API filters match stored buckets.
+     */
+    public String normalize(SpecificationAttribute attribute, String value) {
+        String normalized = switch (attribute) {
+            case RAM -> capacity(value, CAPACITY.matcher(value));
+            case STORAGE -> storage(value);
+            case DISPLAY -> display(value);
+            default -> text(value);
+        };
+        return normalized.length() > MAX_VALUE_LENGTH ? normalized.substring(0, MAX_VALUE_LENGTH) : normalized;
+    }
+
+    private void inferFromToken(String part, Map<SpecificationAttribute, String> attributes) {
+        if (RAM.matcher(part).find()) {
+            attributes.putIfAbsent(SpecificationAttribute.RAM, normalize(SpecificationAttribute.RAM, part));
+        } else if (STORAGE.matcher(part).find()) {
+            attributes.putIfAbsent(SpecificationAttribute.STORAGE, normalize(SpecificationAttribute.STORAGE, part));
+        } else if (DISPLAY.matcher(part).find()) {
+            attributes.putIfAbsent(SpecificationAttribute.DISPLAY, normalize(SpecificationAttribute.DISPLAY, part));
+        } else if (GPU.matcher(part).find()) {
+            attributes.putIfAbsent(SpecificationAttribute.GPU, normalize(SpecificationAttribute.GPU, part));
+        } else if (CPU.matcher(part).find()) {
+            attributes.putIfAbsent(SpecificationAttribute.CPU, normalize(SpecificationAttribute.CPU, part));
+        } else if (OS.matcher(part).find()) {
+            attributes.putIfAbsent(SpecificationAttribute.OS, normalize(SpecificationAttribute.OS, part));
+        }
+    }
+
+    private String storage(String value) {
+        String capacity = capacity(value, CAPACITY.matcher(value));
+        Matcher type = DISK_TYPE.matcher(value);
+        return type.find() ? capacity + " " + type.group(1).toUpperCase(Locale.ROOT) : capacity;
+    }
+
+    private String capacity(String value, Matcher matcher) {
+        if (!matcher.find()) {
+            return text(value);
+        }
+        return matcher.group(1) + " " + matcher.group(2).toUpperCase(Locale.ROOT);
+    }
+
+    private String display(String value) {
+        Matcher matcher = DISPLAY.matcher(value);
+        return matcher.find() ? matcher.group(1) + "\"" : text(value);
+    }
+
+    private String normalizeLabel(String label) {
+        return stripAccents(label).toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Free-text values are case-folded like labels, so "Intel Core i7" and "INTEL core I7" share a bucket.
+     */
+    private String text(String value) {
+        return stripAccents(value).toUpperCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    private String stripAccents(String value) {
+        return Normalizer.normalize(value.trim(), Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+    }
+}
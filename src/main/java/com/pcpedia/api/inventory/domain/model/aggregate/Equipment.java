@@ -1,16 +1,26 @@
 package com.pcpedia.api.inventory.domain.model.aggregate;
 
 import com.pcpedia.api.inventory.domain.model.enums.EquipmentStatus;
+import com.pcpedia.api.inventory.domain.model.event.EquipmentStatusChangedEvent;
+import com.pcpedia.api.inventory.infrastructure.CatalogChangeListener;
 import com.pcpedia.api.shared.domain.model.AggregateRoot;
 import com.pcpedia.api.shared.domain.model.AuditableEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 @Entity
-@Table(name = "equipment")
+@Table(name = "equipment", indexes = {
+        @Index(name = "idx_equipment_created_at_id", columnList = "created_at, id")
+})
+@EntityListeners(CatalogChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -58,6 +68,13 @@ public class Equipment extends AuditableEntity implements AggregateRoot {
     @Column(name = "purchase_date")
     private LocalDate purchaseDate;
 
+    // Status transitions pending publication, flushed by the repository on save()
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private List<EquipmentStatusChangedEvent> domainEvents = new ArrayList<>();
+
     public String getEffectiveName() {
         if (name != null && !name.isEmpty()) return name;
         return productModel != null ? productModel.getName() : null;
@@ -101,18 +118,40 @@ public class Equipment extends AuditableEntity implements AggregateRoot {
         if (!isAvailable()) {
             throw new IllegalStateException("Equipment is not available for leasing");
         }
-        this.status = EquipmentStatus.LEASED;
+        changeStatus(EquipmentStatus.LEASED);
     }
 
     public void markAsAvailable() {
-        this.status = EquipmentStatus.AVAILABLE;
+        changeStatus(EquipmentStatus.AVAILABLE);
     }
 
     public void markAsMaintenance() {
-        this.status = EquipmentStatus.MAINTENANCE;
+        changeStatus(EquipmentStatus.MAINTENANCE);
     }
 
     public void retire() {
-        this.status = EquipmentStatus.RETIRED;
+        changeStatus(EquipmentStatus.RETIRED);
+    }
+
+    public Long getProductModelId() {
+        return productModel != null ? productModel.getId() : null;
+    }
+
+    private void changeStatus(EquipmentStatus newStatus) {
+        EquipmentStatus previousStatus = this.status;
+        this.status = newStatus;
+        if (previousStatus != newStatus) {
+            domainEvents.add(new EquipmentStatusChangedEvent(id, getProductModelId(), previousStatus, newStatus));
+        }
+    }
+
+    @DomainEvents
+    Collection<EquipmentStatusChangedEvent> domainEvents() {
+        return List.copyOf(domainEvents);
+    }
+
+    @AfterDomainEventPublication
+    void clearDomainEvents() {
+        domainEvents.clear();
     }
 }
@@ -1,5 +1,6 @@
 package com.pcpedia.api.inventory.domain.model.aggregate;
 
+import com.pcpedia.api.inventory.infrastructure.CatalogChangeListener;
 import com.pcpedia.api.shared.domain.model.AggregateRoot;
 import com.pcpedia.api.shared.domain.model.AuditableEntity;
 import jakarta.persistence.*;
@@ -11,6 +12,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "product_models")
+@EntityListeners(CatalogChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
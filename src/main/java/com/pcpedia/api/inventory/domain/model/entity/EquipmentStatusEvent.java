@@ -0,0 +1,44 @@
+package com.pcpedia.api.inventory.domain.model.entity;
+
+import com.pcpedia.api.inventory.domain.model.enums.EquipmentStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only record of an equipment status change.
+ * A null previous status marks a unit entering the inventory, a null new status a unit leaving it.
+ */
+@Entity
+@Table(name = "equipment_status_events", indexes = {
+        @Index(name = "idx_equipment_status_events_occurred_at", columnList = "occurred_at"),
+        @Index(name = "idx_equipment_status_events_equipment", columnList = "equipment_id, occurred_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EquipmentStatusEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "equipment_id", nullable = false)
+    private Long equipmentId;
+
+    @Column(name = "product_model_id")
+    private Long productModelId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status", length = 20)
+    private EquipmentStatus previousStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "new_status", length = 20)
+    private EquipmentStatus newStatus;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,51 @@
+package com.pcpedia.api.inventory.domain.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * End-of-day unit counts per product model. Utilization reports read only this table,
+ * so their cost depends on the number of days requested, not on the size of the event history.
+ */
+@Entity
+@Table(name = "equipment_utilization_daily",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_equipment_utilization_day_model", columnNames = {"day", "product_model_id"})
+        },
+        indexes = {
+                @Index(name = "idx_equipment_utilization_category_day", columnList = "category, day")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EquipmentUtilizationDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Column(name = "product_model_id", nullable = false)
+    private Long productModelId;
+
+    @Column(length = 50)
+    private String category;
+
+    @Column(name = "available_units", nullable = false)
+    private Long availableUnits;
+
+    @Column(name = "leased_units", nullable = false)
+    private Long leasedUnits;
+
+    @Column(name = "maintenance_units", nullable = false)
+    private Long maintenanceUnits;
+
+    @Column(name = "retired_units", nullable = false)
+    private Long retiredUnits;
+}
@@ -0,0 +1,39 @@
+package com.pcpedia.api.inventory.domain.model.entity;
+
+import com.pcpedia.api.inventory.domain.model.enums.SpecificationAttribute;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * One typed attribute of a product model, parsed from its free-text specifications.
+ * Feeds the catalog facet index.
+ */
+@Entity
+@Table(name = "product_model_attributes",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_product_model_attribute", columnNames = {"product_model_id", "attribute"})
+        },
+        indexes = {
+                @Index(name = "idx_product_model_attributes_value", columnList = "attribute, attr_value")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductModelAttribute {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_model_id", nullable = false)
+    private Long productModelId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SpecificationAttribute attribute;
+
+    @Column(name = "attr_value", nullable = false, length = 100)
+    private String value;
+}
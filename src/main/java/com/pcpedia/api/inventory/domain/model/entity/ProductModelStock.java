@@ -0,0 +1,60 @@
+package com.pcpedia.api.inventory.domain.model.entity;
+
+import com.pcpedia.api.inventory.domain.model.enums.EquipmentStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Materialized per-status equipment counts for a product model.
+ * Kept in sync with equipment status transitions so catalog reads never scan the equipment table.
+ */
+@Entity
+@Table(name = "product_model_stock", indexes = {
+        @Index(name = "idx_product_model_stock_available", columnList = "available_count")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductModelStock {
+
+    @Id
+    @Column(name = "product_model_id")
+    private Long productModelId;
+
+    @Column(name = "available_count", nullable = false)
+    @Builder.Default
+    private Long availableCount = 0L;
+
+    @Column(name = "leased_count", nullable = false)
+    @Builder.Default
+    private Long leasedCount = 0L;
+
+    @Column(name = "maintenance_count", nullable = false)
+    @Builder.Default
+    private Long maintenanceCount = 0L;
+
+    @Column(name = "retired_count", nullable = false)
+    @Builder.Default
+    private Long retiredCount = 0L;
+
+    public static ProductModelStock empty(Long productModelId) {
+        return ProductModelStock.builder()
+                .productModelId(productModelId)
+                .build();
+    }
+
+    public long getCount(EquipmentStatus status) {
+        return switch (status) {
+            case AVAILABLE -> availableCount;
+            case LEASED -> leasedCount;
+            case MAINTENANCE -> maintenanceCount;
+            case RETIRED -> retiredCount;
+        };
+    }
+
+    public long getTotalCount() {
+        return availableCount + leasedCount + maintenanceCount + retiredCount;
+    }
+}
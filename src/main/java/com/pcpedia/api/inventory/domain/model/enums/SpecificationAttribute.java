@@ -0,0 +1,12 @@
+package com.pcpedia.api.inventory.domain.model.enums;
+
+public enum SpecificationAttribute {
+    CATEGORY,
+    BRAND,
+    CPU,
+    RAM,
+    STORAGE,
+    GPU,
+    DISPLAY,
+    OS
+}
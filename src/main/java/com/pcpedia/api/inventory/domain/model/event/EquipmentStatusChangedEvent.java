@@ -0,0 +1,19 @@
+package com.pcpedia.api.inventory.domain.model.event;
+
+import com.pcpedia.api.inventory.domain.model.enums.EquipmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Raised whenever an equipment unit moves from one status to another.
+ * Published synchronously inside the transaction that performed the change.
+ */
+@Getter
+@AllArgsConstructor
+public class EquipmentStatusChangedEvent {
+
+    private final Long equipmentId;
+    private final Long productModelId;
+    private final EquipmentStatus previousStatus;
+    private final EquipmentStatus newStatus;
+}
@@ -2,14 +2,21 @@ package com.pcpedia.api.inventory.domain.repository;
 
 import com.pcpedia.api.inventory.domain.model.aggregate.Equipment;
 import com.pcpedia.api.inventory.domain.model.enums.EquipmentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface EquipmentRepository extends JpaRepository<Equipment, Long> {
@@ -52,4 +59,44 @@ public interface EquipmentRepository extends JpaRepository<Equipment, Long> {
     Page<Equipment> findByProductModelId(Long productModelId, Pageable pageable);
 
     Page<Equipment> findByProductModelIdAndStatus(Long productModelId, EquipmentStatus status, Pageable pageable);
+
+    // Keyset pagination on (createdAt, id) - no OFFSET scan and no COUNT query
+    @Query("SELECT e FROM Equipment e WHERE " +
+            "(:category IS NULL OR e.category = :category) " +
+            "AND (:search IS NULL OR LOWER(e.name) LIKE LOWER(CONCAT('%', :search, '%')) " +
+            "OR LOWER(e.brand) LIKE LOWER(CONCAT('%', :search, '%')) " +
+            "OR LOWER(e.model) LIKE LOWER(CONCAT('%', :search, '%'))) " +
+            "AND (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :id)) " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    List<Equipment> findPageAfter(@Param("search") String search,
+                                  @Param("category") String category,
+                                  @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") Long id,
+                                  Pageable pageable);
+
+    // Conditional status change: only rows still in the expected status are touched, so the
+    // affected row count tells the caller exactly how many units it won
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Equipment e SET e.status = :to, e.updatedAt = :now " +
+            "WHERE e.id IN :ids AND e.status = :from")
+    int transitionStatus(@Param("ids") Collection<Long> ids,
+                         @Param("from") EquipmentStatus from,
+                         @Param("to") EquipmentStatus to,
+                         @Param("now") LocalDateTime now);
+
+    // [equipmentId, productModelId] for the given units; productModelId is null for legacy units
+    @Query("SELECT e.id, pm.id FROM Equipment e LEFT JOIN e.productModel pm WHERE e.id IN :ids")
+    List<Object[]> findProductModelIdsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT e.id, pm.id FROM Equipment e LEFT JOIN e.productModel pm WHERE e.id IN :ids AND e.status = :status")
+    List<Object[]> findProductModelIdsByIdsAndStatus(@Param("ids") Collection<Long> ids,
+                                                     @Param("status") EquipmentStatus status);
+
+    // Forward-only cursor for exports; consume inside a transaction and close the stream
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE), // MySQL row-by-row streaming
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Equipment e ORDER BY e.id")
+    Stream<Equipment> streamAllForExport();
 }
@@ -0,0 +1,24 @@
+package com.pcpedia.api.inventory.domain.repository;
+
+import com.pcpedia.api.inventory.domain.model.entity.EquipmentStatusEvent;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EquipmentStatusEventRepository extends JpaRepository<EquipmentStatusEvent, Long> {
+
+    Page<EquipmentStatusEvent> findByEquipmentIdOrderByOccurredAtDesc(Long equipmentId, Pageable pageable);
+
+    // Net transitions per model since a point in time: [productModelId, previousStatus, newStatus, count]
+    @Query("SELECT ev.productModelId, ev.previousStatus, ev.newStatus, COUNT(ev) FROM EquipmentStatusEvent ev " +
+           "WHERE ev.occurredAt >= :since AND ev.productModelId IS NOT NULL " +
+           "GROUP BY ev.productModelId, ev.previousStatus, ev.newStatus")
+    List<Object[]> countTransitionsSince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,43 @@
+package com.pcpedia.api.inventory.domain.repository;
+
+import com.pcpedia.api.inventory.domain.model.entity.EquipmentUtilizationDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EquipmentUtilizationDailyRepository extends JpaRepository<EquipmentUtilizationDaily, Long> {
+
+    @Query("SELECT MAX(u.day) FROM EquipmentUtilizationDaily u")
+    Optional<LocalDate> findLastRolledUpDay();
+
+    @Modifying
+    @Query("DELETE FROM EquipmentUtilizationDaily u WHERE u.day = :day")
+    void deleteByDay(@Param("day") LocalDate day);
+
+    // [category, days, leasedUnitDays, fleetUnitDays] - retired units are not part of the fleet
+    @Query("SELECT u.category, COUNT(DISTINCT u.day), SUM(u.leasedUnits), " +
+           "SUM(u.availableUnits + u.leasedUnits + u.maintenanceUnits) " +
+           "FROM EquipmentUtilizationDaily u WHERE u.day BETWEEN :from AND :to " +
+           "AND (:category IS NULL OR u.category = :category) " +
+           "GROUP BY u.category ORDER BY u.category")
+    List<Object[]> sumByCategory(@Param("from") LocalDate from,
+                                 @Param("to") LocalDate to,
+                                 @Param("category") String category);
+
+    // [productModelId, category, days, leasedUnitDays, fleetUnitDays]
+    @Query("SELECT u.productModelId, u.category, COUNT(DISTINCT u.day), SUM(u.leasedUnits), " +
+           "SUM(u.availableUnits + u.leasedUnits + u.maintenanceUnits) " +
+           "FROM EquipmentUtilizationDaily u WHERE u.day BETWEEN :from AND :to " +
+           "AND (:category IS NULL OR u.category = :category) " +
+           "GROUP BY u.productModelId, u.category ORDER BY u.category, u.productModelId")
+    List<Object[]> sumByProductModel(@Param("from") LocalDate from,
+                                     @Param("to") LocalDate to,
+                                     @Param("category") String category);
+}
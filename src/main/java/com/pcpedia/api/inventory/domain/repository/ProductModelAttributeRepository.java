@@ -0,0 +1,24 @@
+package com.pcpedia.api.inventory.domain.repository;
+
+import com.pcpedia.api.inventory.domain.model.entity.ProductModelAttribute;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProductModelAttributeRepository extends JpaRepository<ProductModelAttribute, Long> {
+
+    List<ProductModelAttribute> findByProductModelId(Long productModelId);
+
+    @Modifying
+    @Query("DELETE FROM ProductModelAttribute a WHERE a.productModelId = :productModelId")
+    void deleteByProductModelId(@Param("productModelId") Long productModelId);
+
+    @Query("SELECT a FROM ProductModelAttribute a WHERE a.productModelId IN " +
+           "(SELECT pm.id FROM ProductModel pm WHERE pm.isActive = true)")
+    List<ProductModelAttribute> findAllOfActiveModels();
+}
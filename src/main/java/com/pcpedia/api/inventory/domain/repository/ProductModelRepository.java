@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,19 +30,35 @@ public interface ProductModelRepository extends JpaRepository<ProductModel, Long
 
     Optional<ProductModel> findByIdAndIsActiveTrue(Long id);
 
-    // Catalog queries - only return models with available stock
-    @Query("SELECT pm FROM ProductModel pm WHERE pm.isActive = true " +
-           "AND EXISTS (SELECT e FROM Equipment e WHERE e.productModel = pm AND e.status = 'AVAILABLE')")
+    // [productModelId, isActive, availableCount] in one round trip; availableCount is null without a stock row
+    @Query("SELECT pm.id, pm.isActive, s.availableCount FROM ProductModel pm " +
+           "LEFT JOIN ProductModelStock s ON s.productModelId = pm.id WHERE pm.id IN :ids")
+    List<Object[]> findAvailabilityByIds(@Param("ids") Collection<Long> ids);
+
+    // Catalog queries - only return models with available stock, read from the product_model_stock projection
+    @Query(value = "SELECT pm FROM ProductModel pm JOIN ProductModelStock s ON s.productModelId = pm.id " +
+                   "WHERE pm.isActive = true AND s.availableCount > 0 ORDER BY s.availableCount DESC",
+           countQuery = "SELECT COUNT(pm) FROM ProductModel pm JOIN ProductModelStock s ON s.productModelId = pm.id " +
+                        "WHERE pm.isActive = true AND s.availableCount > 0")
     Page<ProductModel> findActiveWithStock(Pageable pageable);
 
-    @Query("SELECT pm FROM ProductModel pm WHERE pm.isActive = true " +
-           "AND EXISTS (SELECT e FROM Equipment e WHERE e.productModel = pm AND e.status = 'AVAILABLE') " +
-           "AND (LOWER(pm.name) LIKE LOWER(CONCAT('%', :search, '%')) " +
-           "OR LOWER(pm.brand) LIKE LOWER(CONCAT('%', :search, '%')) " +
-           "OR LOWER(pm.model) LIKE LOWER(CONCAT('%', :search, '%')))")
+    @Query(value = "SELECT pm FROM ProductModel pm JOIN ProductModelStock s ON s.productModelId = pm.id " +
+                   "WHERE pm.isActive = true AND s.availableCount > 0 " +
+                   "AND (LOWER(pm.name) LIKE LOWER(CONCAT('%', :search, '%')) " +
+                   "OR LOWER(pm.brand) LIKE LOWER(CONCAT('%', :search, '%')) " +
+                   "OR LOWER(pm.model) LIKE LOWER(CONCAT('%', :search, '%'))) " +
+                   "ORDER BY s.availableCount DESC",
+           countQuery = "SELECT COUNT(pm) FROM ProductModel pm JOIN ProductModelStock s ON s.productModelId = pm.id " +
+                        "WHERE pm.isActive = true AND s.availableCount > 0 " +
+                        "AND (LOWER(pm.name) LIKE LOWER(CONCAT('%', :search, '%')) " +
+                        "OR LOWER(pm.brand) LIKE LOWER(CONCAT('%', :search, '%')) " +
+                        "OR LOWER(pm.model) LIKE LOWER(CONCAT('%', :search, '%')))")
     Page<ProductModel> searchActiveWithStock(@Param("search") String search, Pageable pageable);
 
-    @Query("SELECT pm FROM ProductModel pm WHERE pm.isActive = true AND pm.category = :category " +
-           "AND EXISTS (SELECT e FROM Equipment e WHERE e.productModel = pm AND e.status = 'AVAILABLE')")
+    @Query(value = "SELECT pm FROM ProductModel pm JOIN ProductModelStock s ON s.productModelId = pm.id " +
+                   "WHERE pm.isActive = true AND pm.category = :category AND s.availableCount > 0 " +
+                   "ORDER BY s.availableCount DESC",
+           countQuery = "SELECT COUNT(pm) FROM ProductModel pm JOIN ProductModelStock s ON s.productModelId = pm.id " +
+                        "WHERE pm.isActive = true AND pm.category = :category AND s.availableCount > 0")
     Page<ProductModel> findByCategoryWithStock(@Param("category") String category, Pageable pageable);
 }
@@ -0,0 +1,49 @@
+package com.pcpedia.api.inventory.domain.repository;
+
+import com.pcpedia.api.inventory.domain.model.entity.ProductModelStock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProductModelStockRepository extends JpaRepository<ProductModelStock, Long> {
+
+    @Modifying
+    @Query("UPDATE ProductModelStock s SET " +
+           "s.availableCount = s.availableCount + :available, " +
+           "s.leasedCount = s.leasedCount + :leased, " +
+           "s.maintenanceCount = s.maintenanceCount + :maintenance, " +
+           "s.retiredCount = s.retiredCount + :retired " +
+           "WHERE s.productModelId = :productModelId")
+    int adjustCounts(@Param("productModelId") Long productModelId,
+                     @Param("available") long available,
+                     @Param("leased") long leased,
+                     @Param("maintenance") long maintenance,
+                     @Param("retired") long retired);
+
+    // Recomputes every row from the equipment table in one grouped pass
+    @Modifying
+    @Query(value = "INSERT INTO product_model_stock " +
+                   "(product_model_id, available_count, leased_count, maintenance_count, retired_count) " +
+                   "SELECT pm.id, " +
+                   "COALESCE(SUM(CASE WHEN e.status = 'AVAILABLE' THEN 1 ELSE 0 END), 0), " +
+                   "COALESCE(SUM(CASE WHEN e.status = 'LEASED' THEN 1 ELSE 0 END), 0), " +
+                   "COALESCE(SUM(CASE WHEN e.status = 'MAINTENANCE' THEN 1 ELSE 0 END), 0), " +
+                   "COALESCE(SUM(CASE WHEN e.status = 'RETIRED' THEN 1 ELSE 0 END), 0) " +
+                   "FROM product_models pm LEFT JOIN equipment e ON e.product_model_id = pm.id " +
+                   "GROUP BY pm.id " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "available_count = VALUES(available_count), " +
+                   "leased_count = VALUES(leased_count), " +
+                   "maintenance_count = VALUES(maintenance_count), " +
+                   "retired_count = VALUES(retired_count)",
+           nativeQuery = true)
+    int rebuildAll();
+
+    @Query("SELECT s.productModelId FROM ProductModelStock s WHERE s.availableCount > 0")
+    List<Long> findProductModelIdsWithAvailableStock();
+}
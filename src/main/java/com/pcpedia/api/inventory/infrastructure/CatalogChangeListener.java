@@ -0,0 +1,26 @@
+package com.pcpedia.api.inventory.infrastructure;
+
+import com.pcpedia.api.inventory.application.service.CatalogVersion;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener on catalog entities: any insert, update or delete advances the catalog version.
+ * Bulk JPQL updates bypass entity callbacks and must bump {@link CatalogVersion} themselves.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogChangeListener {
+
+    private final CatalogVersion catalogVersion;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onCatalogChange(Object entity) {
+        catalogVersion.bump();
+    }
+}
@@ -0,0 +1,21 @@
+package com.pcpedia.api.inventory.infrastructure;
+
+import com.pcpedia.api.inventory.application.service.EquipmentUtilizationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EquipmentUtilizationRollupJob {
+
+    private final EquipmentUtilizationService equipmentUtilizationService;
+
+    @Scheduled(cron = "${inventory.utilization.rollup-cron:0 10 0 * * *}")
+    public void rollup() {
+        int days = equipmentUtilizationService.rollupPendingDays();
+        log.info("Rollup de utilizacion de equipos completado ({} dias procesados)", days);
+    }
+}
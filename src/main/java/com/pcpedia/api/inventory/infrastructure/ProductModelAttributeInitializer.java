@@ -0,0 +1,21 @@
+package com.pcpedia.api.inventory.infrastructure;
+
+import com.pcpedia.api.inventory.application.service.ProductModelAttributeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductModelAttributeInitializer implements CommandLineRunner {
+
+    private final ProductModelAttributeService productModelAttributeService;
+
+    @Override
+    public void run(String... args) {
+        int rows = productModelAttributeService.reindexAll();
+        log.info("Atributos de especificaciones reindexados ({} atributos)", rows);
+    }
+}
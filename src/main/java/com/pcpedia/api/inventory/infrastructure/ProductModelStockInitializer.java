@@ -0,0 +1,21 @@
+package com.pcpedia.api.inventory.infrastructure;
+
+import com.pcpedia.api.inventory.application.service.ProductModelStockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductModelStockInitializer implements CommandLineRunner {
+
+    private final ProductModelStockService productModelStockService;
+
+    @Override
+    public void run(String... args) {
+        int rows = productModelStockService.rebuild();
+        log.info("Proyeccion de stock por modelo reconstruida ({} filas afectadas)", rows);
+    }
+}
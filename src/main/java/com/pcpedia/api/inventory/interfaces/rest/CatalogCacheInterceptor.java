@@ -0,0 +1,45 @@
+package com.pcpedia.api.inventory.interfaces.rest;
+
+import com.pcpedia.api.inventory.application.service.CatalogVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Conditional GET for catalog endpoints. Catalog pages are identical for every client,
+ * so a current If-None-Match / If-Modified-Since is answered with 304 before any catalog query runs.
+ * The endpoints require an authenticated client, so responses are only cacheable by the browser, never by shared proxies.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogCacheInterceptor implements HandlerInterceptor {
+
+    private final CatalogVersion catalogVersion;
+
+    @Value("${catalog.cache.max-age-seconds:30}")
+    private long maxAgeSeconds;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePrivate().mustRevalidate().getHeaderValue());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+
+        // Sets ETag and Last-Modified on the response, and the 304 status when the client copy is current
+        return !new ServletWebRequest(request, response)
+                .checkNotModified(catalogVersion.etag(), catalogVersion.lastModified());
+    }
+}
@@ -1,6 +1,7 @@
 package com.pcpedia.api.inventory.interfaces.rest;
 
 import com.pcpedia.api.inventory.application.dto.response.CatalogEquipmentResponse;
+import com.pcpedia.api.inventory.application.dto.response.CatalogFacetResponse;
 import com.pcpedia.api.inventory.application.dto.response.CatalogProductModelResponse;
 import com.pcpedia.api.inventory.application.service.CatalogService;
 import com.pcpedia.api.shared.interfaces.rest.ApiResponse;
@@ -68,6 +69,19 @@ public class CatalogController {
         return ResponseEntity.ok(ApiResponse.success(models));
     }
 
+    @GetMapping("/models/facets")
+    @Operation(summary = "Filter product models by specifications",
+            description = "Filter in-stock product models with attribute:value filters (e.g. ram:16 GB) and get facet counts per attribute")
+    public ResponseEntity<ApiResponse<CatalogFacetResponse>> getProductModelFacets(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) List<String> filter) {
+
+        Pageable pageable = PageRequest.of(page, size);
+        CatalogFacetResponse response = catalogService.getProductModelFacets(filter, pageable);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/models/{id}")
     @Operation(summary = "Get product model details", description = "Get product model details with stock count")
     public ResponseEntity<ApiResponse<CatalogProductModelResponse>> getProductModelById(@PathVariable Long id) {
@@ -6,8 +6,12 @@ import com.pcpedia.api.inventory.application.dto.request.ChangeEquipmentStatusRe
 import com.pcpedia.api.inventory.application.dto.request.CreateEquipmentRequest;
 import com.pcpedia.api.inventory.application.dto.request.UpdateEquipmentRequest;
 import com.pcpedia.api.inventory.application.dto.response.EquipmentResponse;
+import com.pcpedia.api.inventory.application.dto.response.UtilizationResponse;
 import com.pcpedia.api.inventory.application.mapper.EquipmentMapper;
+import com.pcpedia.api.inventory.application.service.EquipmentUtilizationService;
 import com.pcpedia.api.inventory.application.service.InventoryService;
+import com.pcpedia.api.shared.application.pagination.CursorPage;
+import com.pcpedia.api.shared.infrastructure.export.ExportFormat;
 import com.pcpedia.api.shared.interfaces.rest.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,15 +19,20 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -34,6 +43,7 @@ import java.util.List;
 public class InventoryController {
 
     private final InventoryService inventoryService;
+    private final EquipmentUtilizationService equipmentUtilizationService;
     private final EquipmentMapper equipmentMapper;
     private final MessageSource messageSource;
 
@@ -52,6 +62,17 @@ public class InventoryController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(message, equipmentId));
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Export equipment", description = "Stream all equipment as CSV or NDJSON (format=csv|ndjson)")
+    public ResponseEntity<StreamingResponseBody> exportEquipment(@RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("equipment." + exportFormat.getExtension()).build().toString())
+                .body(inventoryService.exportEquipment(exportFormat));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get equipment by ID", description = "Get equipment details with price")
     public ResponseEntity<ApiResponse<EquipmentResponse>> getEquipmentById(@PathVariable Long id) {
@@ -72,6 +93,18 @@ public class InventoryController {
         return ResponseEntity.ok(ApiResponse.success(equipment));
     }
 
+    @GetMapping(params = "after")
+    @Operation(summary = "List equipment by cursor", description = "Get equipment after an opaque cursor; pass an empty cursor for the first page")
+    public ResponseEntity<ApiResponse<CursorPage<EquipmentResponse>>> getEquipmentAfter(
+            @RequestParam(name = "after") String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String category) {
+
+        CursorPage<EquipmentResponse> equipment = inventoryService.getEquipmentAfter(after, size, search, category);
+        return ResponseEntity.ok(ApiResponse.success(equipment));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update equipment", description = "Update equipment information")
     public ResponseEntity<ApiResponse<Void>> updateEquipment(
@@ -124,4 +157,16 @@ public class InventoryController {
         List<String> categories = inventoryService.getAllCategories();
         return ResponseEntity.ok(ApiResponse.success(categories));
     }
+
+    @GetMapping("/utilization")
+    @Operation(summary = "Fleet utilization", description = "Leased share of the fleet over a date range, from daily rollups, grouped by category or model")
+    public ResponseEntity<ApiResponse<List<UtilizationResponse>>> getUtilization(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "category") String groupBy,
+            @RequestParam(required = false) String category) {
+
+        List<UtilizationResponse> utilization = equipmentUtilizationService.getUtilization(from, to, groupBy, category);
+        return ResponseEntity.ok(ApiResponse.success(utilization));
+    }
 }
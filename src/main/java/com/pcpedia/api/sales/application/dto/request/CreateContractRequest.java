@@ -21,4 +21,6 @@ public class CreateContractRequest {
     private LocalDate startDate;
 
     private String terms;
+
+    private Boolean autoRenew;
 }
@@ -0,0 +1,21 @@
+package com.pcpedia.api.sales.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractExpiryReport {
+    private LocalDate runDate;
+    private int chunks;
+    private int expired;
+    private int renewed;
+    private int equipmentReleased;
+    private long durationMs;
+}
@@ -27,6 +27,7 @@ public class ContractResponse {
     private BigDecimal monthlyAmount;
     private String status;
     private String terms;
+    private Boolean autoRenew;
     private List<ContractItemResponse> items;
     private LocalDateTime createdAt;
 }
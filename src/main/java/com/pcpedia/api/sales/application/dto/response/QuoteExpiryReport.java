@@ -0,0 +1,21 @@
+package com.pcpedia.api.sales.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteExpiryReport {
+    private LocalDate runDate;
+    private boolean dryRun;
+    private long candidates;         // SENT quotes with validUntil before runDate
+    private long expired;            // always 0 in dry-run mode
+    private List<Long> sampleQuoteIds;
+}
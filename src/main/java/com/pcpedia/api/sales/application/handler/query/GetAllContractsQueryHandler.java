@@ -1,6 +1,8 @@
 package com.pcpedia.api.sales.application.handler.query;
 
+import com.pcpedia.api.iam.domain.model.aggregate.User;
 import com.pcpedia.api.iam.domain.repository.UserRepository;
+import com.pcpedia.api.inventory.domain.model.aggregate.Equipment;
 import com.pcpedia.api.inventory.domain.repository.EquipmentRepository;
 import com.pcpedia.api.sales.application.dto.response.ContractItemResponse;
 import com.pcpedia.api.sales.application.dto.response.ContractResponse;
@@ -12,6 +14,11 @@ import com.pcpedia.api.shared.application.cqrs.QueryHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -22,6 +29,7 @@ public class GetAllContractsQueryHandler implements QueryHandler<GetAllContracts
     private final EquipmentRepository equipmentRepository;
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ContractResponse> handle(GetAllContractsQuery query) {
         Page<Contract> contracts;
 
@@ -35,11 +43,26 @@ public class GetAllContractsQueryHandler implements QueryHandler<GetAllContracts
             contracts = contractRepository.findAll(query.getPageable());
         }
 
-        return contracts.map(this::toResponse);
+        // Users and equipment are loaded once per page; items come in one batch through @BatchSize
+        Map<Long, User> users = userRepository.findAllById(contracts.getContent().stream()
+                        .map(Contract::getUserId)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Equipment> equipment = equipmentRepository.findAllById(contracts.getContent().stream()
+                        .flatMap(contract -> contract.getItems().stream())
+                        .map(ContractItem::getEquipmentId)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Equipment::getId, Function.identity()));
+
+        return contracts.map(contract -> toResponse(contract, users, equipment));
     }
 
-    private ContractResponse toResponse(Contract contract) {
-        var user = userRepository.findById(contract.getUserId()).orElse(null);
+    private ContractResponse toResponse(Contract contract, Map<Long, User> users, Map<Long, Equipment> equipment) {
+        User user = users.get(contract.getUserId());
 
         return ContractResponse.builder()
                 .id(contract.getId())
@@ -53,16 +76,15 @@ public class GetAllContractsQueryHandler implements QueryHandler<GetAllContracts
                 .monthlyAmount(contract.getMonthlyAmount())
                 .status(contract.getStatus().name())
                 .terms(contract.getTerms())
+                .autoRenew(contract.isAutoRenew())
                 .items(contract.getItems().stream()
-                        .map(this::toItemResponse)
+                        .map(item -> toItemResponse(item, equipment.get(item.getEquipmentId())))
                         .toList())
                 .createdAt(contract.getCreatedAt())
                 .build();
     }
 
-    private ContractItemResponse toItemResponse(ContractItem item) {
-        var equipment = equipmentRepository.findById(item.getEquipmentId()).orElse(null);
-
+    private ContractItemResponse toItemResponse(ContractItem item, Equipment equipment) {
         return ContractItemResponse.builder()
                 .id(item.getId())
                 .equipmentId(item.getEquipmentId())
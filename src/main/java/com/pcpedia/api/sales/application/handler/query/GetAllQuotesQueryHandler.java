@@ -1,6 +1,8 @@
 package com.pcpedia.api.sales.application.handler.query;
 
+import com.pcpedia.api.iam.domain.model.aggregate.User;
 import com.pcpedia.api.iam.domain.repository.UserRepository;
+import com.pcpedia.api.inventory.domain.model.aggregate.Equipment;
 import com.pcpedia.api.inventory.domain.repository.EquipmentRepository;
 import com.pcpedia.api.sales.application.dto.response.QuoteItemResponse;
 import com.pcpedia.api.sales.application.dto.response.QuoteResponse;
@@ -12,6 +14,11 @@ import com.pcpedia.api.shared.application.cqrs.QueryHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -22,6 +29,7 @@ public class GetAllQuotesQueryHandler implements QueryHandler<GetAllQuotesQuery,
     private final EquipmentRepository equipmentRepository;
 
     @Override
+    @Transactional(readOnly = true)
     public Page<QuoteResponse> handle(GetAllQuotesQuery query) {
         Page<Quote> quotes;
 
@@ -35,11 +43,26 @@ public class GetAllQuotesQueryHandler implements QueryHandler<GetAllQuotesQuery,
             quotes = quoteRepository.findAll(query.getPageable());
         }
 
-        return quotes.map(this::toResponse);
+        // Users and equipment are loaded once per page; items come in one batch through @BatchSize
+        Map<Long, User> users = userRepository.findAllById(quotes.getContent().stream()
+                        .map(Quote::getUserId)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Equipment> equipment = equipmentRepository.findAllById(quotes.getContent().stream()
+                        .flatMap(quote -> quote.getItems().stream())
+                        .map(QuoteItem::getEquipmentId)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Equipment::getId, Function.identity()));
+
+        return quotes.map(quote -> toResponse(quote, users, equipment));
     }
 
-    private QuoteResponse toResponse(Quote quote) {
-        var user = userRepository.findById(quote.getUserId()).orElse(null);
+    private QuoteResponse toResponse(Quote quote, Map<Long, User> users, Map<Long, Equipment> equipment) {
+        User user = users.get(quote.getUserId());
 
         return QuoteResponse.builder()
                 .id(quote.getId())
@@ -53,16 +76,14 @@ public class GetAllQuotesQueryHandler implements QueryHandler<GetAllQuotesQuery,
                 .validUntil(quote.getValidUntil())
                 .terms(quote.getTerms())
                 .items(quote.getItems().stream()
-                        .map(this::toItemResponse)
+                        .map(item -> toItemResponse(item, equipment.get(item.getEquipmentId())))
                         .toList())
                 .createdAt(quote.getCreatedAt())
                 .sentAt(quote.getSentAt())
                 .build();
     }
 
-    private QuoteItemResponse toItemResponse(QuoteItem item) {
-        var equipment = equipmentRepository.findById(item.getEquipmentId()).orElse(null);
-
+    private QuoteItemResponse toItemResponse(QuoteItem item, Equipment equipment) {
         return QuoteItemResponse.builder()
                 .id(item.getId())
                 .equipmentId(item.getEquipmentId())
@@ -0,0 +1,165 @@
+package com.pcpedia.api.sales.application.service;
+
+import com.pcpedia.api.inventory.application.service.EquipmentLeasingService;
+import com.pcpedia.api.sales.application.dto.response.ContractExpiryReport;
+import com.pcpedia.api.sales.domain.model.aggregate.Contract;
+import com.pcpedia.api.sales.domain.model.entity.ContractItem;
+import com.pcpedia.api.sales.domain.model.enums.ContractStatus;
+import com.pcpedia.api.sales.domain.repository.ContractRepository;
+import com.pcpedia.api.sales.infrastructure.ContractItemBatchWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Closes ACTIVE contracts whose end date has passed.
+ * Contracts flagged for auto-renewal roll into a follow-up contract that keeps the same equipment;
+ * the rest expire and their units go back to stock.
+ *
+ * Work is done in keyset-ordered chunks on (end_date, id), one transaction per chunk. Rows are locked
+ * when read and only ACTIVE contracts are touched, so an overlapping or repeated run is a no-op.
+ */
+@Service
+@Slf4j
+public class ContractExpiryService {
+
+    private final ContractRepository contractRepository;
+    private final EquipmentLeasingService equipmentLeasingService;
+    private final ContractItemBatchWriter contractItemBatchWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter expiredCounter;
+    private final Counter renewedCounter;
+    private final Counter releasedCounter;
+
+    @Value("${contracts.expiry.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${contracts.auto-renewal.months:12}")
+    private int renewalMonths;
+
+    public ContractExpiryService(ContractRepository contractRepository,
+                                 EquipmentLeasingService equipmentLeasingService,
+                                 ContractItemBatchWriter contractItemBatchWriter,
+                                 TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry) {
+        this.contractRepository = contractRepository;
+        this.equipmentLeasingService = equipmentLeasingService;
+        this.contractItemBatchWriter = contractItemBatchWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.expiredCounter = meterRegistry.counter("contracts.expiry.expired");
+        this.renewedCounter = meterRegistry.counter("contracts.expiry.renewed");
+        this.releasedCounter = meterRegistry.counter("contracts.expiry.equipment.released");
+    }
+
+    public ContractExpiryReport expireDueContracts(LocalDate today) {
+        long startedAt = System.currentTimeMillis();
+        ContractExpiryReport report = ContractExpiryReport.builder().runDate(today).build();
+
+        // Cursor starts before any real (end_date, id)
+        LocalDate afterEndDate = LocalDate.of(1970, 1, 1);
+        long afterId = 0L;
+
+        while (true) {
+            LocalDate cursorEndDate = afterEndDate;
+            long cursorId = afterId;
+            Contract last = transactionTemplate.execute(status -> processChunk(today, cursorEndDate, cursorId, report));
+            if (last == null) {
+                break;
+            }
+            afterEndDate = last.getEndDate();
+            afterId = last.getId();
+            report.setChunks(report.getChunks() + 1);
+            log.info("Vencimiento de contratos: lote {} procesado ({} vencidos, {} renovados hasta ahora)",
+                    report.getChunks(), report.getExpired(), report.getRenewed());
+        }
+
+        report.setDurationMs(System.currentTimeMillis() - startedAt);
+        return report;
+    }
+
+    /**
+     * @return the last contract of the chunk, or null when nothing is left to process
+     */
+    private Contract processChunk(LocalDate today, LocalDate afterEndDate, long afterId, ContractExpiryReport report) {
+        List<Contract> chunk = contractRepository.findDueForExpiryAfter(
+                ContractStatus.ACTIVE, today, afterEndDate, afterId, PageRequest.of(0, chunkSize));
+        if (chunk.isEmpty()) {
+            return null;
+        }
+
+        List<Long> ids = chunk.stream().map(Contract::getId).toList();
+        Map<Long, List<ContractItem>> itemsByContract = new HashMap<>();
+        for (Object[] row : contractRepository.findItemRowsByContractIds(ids)) {
+            itemsByContract.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                    .add(ContractItem.builder()
+                            .equipmentId((Long) row[1])
+                            .quantity((Integer) row[2])
+                            .unitPrice((BigDecimal) row[3])
+                            .build());
+        }
+
+        List<Long> expiringIds = new ArrayList<>();
+        List<Long> renewingIds = new ArrayList<>();
+        List<Contract> followUps = new ArrayList<>();
+        for (Contract contract : chunk) {
+            if (contract.isAutoRenew() && renewalMonths > 0) {
+                renewingIds.add(contract.getId());
+                followUps.add(Contract.builder()
+                        .quoteId(contract.getQuoteId())
+                        .userId(contract.getUserId())
+                        .contractNumber(Contract.generateRenewalNumber(contract.getContractNumber()))
+                        .startDate(contract.getEndDate())
+                        .endDate(contract.getEndDate().plusMonths(renewalMonths))
+                        .monthlyAmount(contract.getMonthlyAmount())
+                        .terms(contract.getTerms())
+                        .autoRenew(true)
+                        .status(ContractStatus.ACTIVE)
+                        .build());
+            } else {
+                expiringIds.add(contract.getId());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!expiringIds.isEmpty()) {
+            int expired = contractRepository.transitionStatus(expiringIds, ContractStatus.ACTIVE, ContractStatus.EXPIRED, now);
+            int released = equipmentLeasingService.releaseAll(expiringIds.stream()
+                    .flatMap(id -> itemsByContract.getOrDefault(id, List.of()).stream())
+                    .map(ContractItem::getEquipmentId)
+                    .toList());
+            report.setExpired(report.getExpired() + expired);
+            report.setEquipmentReleased(report.getEquipmentReleased() + released);
+            expiredCounter.increment(expired);
+            releasedCounter.increment(released);
+        }
+
+        if (!renewingIds.isEmpty()) {
+            contractRepository.transitionStatus(renewingIds, ContractStatus.ACTIVE, ContractStatus.RENEWED, now);
+            List<Contract> saved = contractRepository.saveAll(followUps);
+
+            Map<Long, List<ContractItem>> followUpItems = new HashMap<>();
+            for (int i = 0; i < saved.size(); i++) {
+                followUpItems.put(saved.get(i).getId(), itemsByContract.getOrDefault(renewingIds.get(i), List.of()));
+            }
+            contractItemBatchWriter.insertAll(followUpItems);
+
+            report.setRenewed(report.getRenewed() + saved.size());
+            renewedCounter.increment(saved.size());
+        }
+
+        return chunk.get(chunk.size() - 1);
+    }
+}
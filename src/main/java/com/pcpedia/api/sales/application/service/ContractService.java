@@ -2,6 +2,7 @@ package com.pcpedia.api.sales.application.service;
 
 import com.pcpedia.api.iam.domain.model.aggregate.User;
 import com.pcpedia.api.iam.domain.repository.UserRepository;
+import com.pcpedia.api.inventory.application.service.EquipmentLeasingService;
 import com.pcpedia.api.inventory.domain.model.aggregate.Equipment;
 import com.pcpedia.api.inventory.domain.repository.EquipmentRepository;
 import com.pcpedia.api.sales.application.dto.request.CreateContractRequest;
@@ -11,24 +12,32 @@ import com.pcpedia.api.sales.application.dto.response.ContractResponse;
 import com.pcpedia.api.sales.domain.model.aggregate.Contract;
 import com.pcpedia.api.sales.domain.model.aggregate.Quote;
 import com.pcpedia.api.sales.domain.model.entity.ContractItem;
-import com.pcpedia.api.sales.domain.model.entity.QuoteItem;
 import com.pcpedia.api.sales.domain.model.enums.ContractStatus;
 import com.pcpedia.api.sales.domain.repository.ContractRepository;
 import com.pcpedia.api.sales.domain.repository.QuoteRepository;
+import com.pcpedia.api.sales.infrastructure.ContractItemBatchWriter;
+import com.pcpedia.api.shared.application.pagination.CursorPage;
+import com.pcpedia.api.shared.application.pagination.KeysetCursor;
 import com.pcpedia.api.shared.infrastructure.exception.BadRequestException;
 import com.pcpedia.api.shared.infrastructure.exception.ForbiddenException;
 import com.pcpedia.api.shared.infrastructure.exception.ResourceNotFoundException;
+import com.pcpedia.api.shared.infrastructure.export.ExportFormat;
+import com.pcpedia.api.shared.infrastructure.export.StreamingExporter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -40,6 +49,9 @@ public class ContractService {
     private final QuoteRepository quoteRepository;
     private final UserRepository userRepository;
     private final EquipmentRepository equipmentRepository;
+    private final EquipmentLeasingService equipmentLeasingService;
+    private final ContractItemBatchWriter contractItemBatchWriter;
+    private final StreamingExporter streamingExporter;
     private final MessageSource messageSource;
 
     public Long createContract(CreateContractRequest dto) {
@@ -62,26 +74,25 @@ public class ContractService {
                 .endDate(dto.getStartDate().plusMonths(quote.getDurationMonths()))
                 .monthlyAmount(quote.getTotalMonthly())
                 .terms(dto.getTerms() != null ? dto.getTerms() : quote.getTerms())
+                .autoRenew(Boolean.TRUE.equals(dto.getAutoRenew()))
                 .status(ContractStatus.ACTIVE)
                 .build();
 
-        quote.getItems().forEach(quoteItem -> {
-            ContractItem item = ContractItem.builder()
-                    .equipmentId(quoteItem.getEquipmentId())
-                    .quantity(quoteItem.getQuantity())
-                    .unitPrice(quoteItem.getUnitPrice())
-                    .build();
-            contract.addItem(item);
-
-            // Mark equipment as leased
-            Equipment equipment = equipmentRepository.findById(quoteItem.getEquipmentId()).orElse(null);
-            if (equipment != null && equipment.isAvailable()) {
-                equipment.markAsLeased();
-                equipmentRepository.save(equipment);
-            }
-        });
+        List<ContractItem> items = quote.getItems().stream()
+                .map(quoteItem -> ContractItem.builder()
+                        .equipmentId(quoteItem.getEquipmentId())
+                        .quantity(quoteItem.getQuantity())
+                        .unitPrice(quoteItem.getUnitPrice())
+                        .build())
+                .toList();
+
+        // One conditional UPDATE for every unit; fails the whole contract if any unit was taken meanwhile
+        equipmentLeasingService.leaseAll(items.stream()
+                .map(ContractItem::getEquipmentId)
+                .toList());
 
         Contract savedContract = contractRepository.save(contract);
+        contractItemBatchWriter.insertAll(savedContract.getId(), items);
         return savedContract.getId();
     }
 
@@ -91,14 +102,10 @@ public class ContractService {
 
         contract.cancel();
 
-        // Mark equipment as available
-        contract.getItems().forEach(item -> {
-            Equipment equipment = equipmentRepository.findById(item.getEquipmentId()).orElse(null);
-            if (equipment != null) {
-                equipment.markAsAvailable();
-                equipmentRepository.save(equipment);
-            }
-        });
+        // Return leased units to stock in one set-based update
+        equipmentLeasingService.releaseAll(contract.getItems().stream()
+                .map(ContractItem::getEquipmentId)
+                .toList());
 
         contractRepository.save(contract);
     }
@@ -122,19 +129,21 @@ public class ContractService {
                 .endDate(oldContract.getEndDate().plusMonths(additionalMonths))
                 .monthlyAmount(oldContract.getMonthlyAmount())
                 .terms(oldContract.getTerms())
+                .autoRenew(oldContract.isAutoRenew())
                 .status(ContractStatus.ACTIVE)
                 .build();
 
-        oldContract.getItems().forEach(oldItem -> {
-            ContractItem item = ContractItem.builder()
-                    .equipmentId(oldItem.getEquipmentId())
-                    .quantity(oldItem.getQuantity())
-                    .unitPrice(oldItem.getUnitPrice())
-                    .build();
-            newContract.addItem(item);
-        });
+        // Equipment stays LEASED across the renewal; only the item rows are carried over
+        List<ContractItem> items = oldContract.getItems().stream()
+                .map(oldItem -> ContractItem.builder()
+                        .equipmentId(oldItem.getEquipmentId())
+                        .quantity(oldItem.getQuantity())
+                        .unitPrice(oldItem.getUnitPrice())
+                        .build())
+                .toList();
 
         Contract savedContract = contractRepository.save(newContract);
+        contractItemBatchWriter.insertAll(savedContract.getId(), items);
         return savedContract.getId();
     }
 
@@ -147,7 +156,7 @@ public class ContractService {
             throw new ForbiddenException(getMessage("auth.access.denied"));
         }
 
-        return toResponse(contract);
+        return listMapper(List.of(contract)).apply(contract);
     }
 
     @Transactional(readOnly = true)
@@ -158,81 +167,68 @@ public class ContractService {
         } else {
             contracts = contractRepository.findByUserId(userId, pageable);
         }
-        return contracts.map(this::toResponse);
+        return contracts.map(listMapper(contracts.getContent()));
     }
 
     @Transactional(readOnly = true)
-    public List<ClientEquipmentResponse> getClientEquipment(Long userId) {
-        List<Contract> activeContracts = contractRepository.findByUserIdAndStatus(
-                userId, ContractStatus.ACTIVE, Pageable.unpaged()).getContent();
-
-        List<ClientEquipmentResponse> result = new ArrayList<>();
-
-        for (Contract contract : activeContracts) {
-            for (ContractItem item : contract.getItems()) {
-                Equipment equipment = equipmentRepository.findById(item.getEquipmentId()).orElse(null);
-                if (equipment != null) {
-                    result.add(ClientEquipmentResponse.builder()
-                            .equipmentId(equipment.getId())
-                            .name(equipment.getName())
-                            .brand(equipment.getBrand())
-                            .model(equipment.getModel())
-                            .serialNumber(equipment.getSerialNumber())
-                            .category(equipment.getCategory())
-                            .specifications(equipment.getSpecifications())
-                            .imageUrl(equipment.getImageUrl())
-                            .contractNumber(contract.getContractNumber())
-                            .contractStartDate(contract.getStartDate())
-                            .contractEndDate(contract.getEndDate())
-                            .contractStatus(contract.getStatus().name())
-                            .build());
-                }
-            }
+    public CursorPage<ContractResponse> getContractsAfter(String after, int size, Long userId, boolean isAdmin) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        List<Contract> rows;
+        if (isAdmin) {
+            rows = contractRepository.findPageAfter(cursor.getCreatedAt(), cursor.getId(), CursorPage.probe(size));
+        } else {
+            rows = contractRepository.findPageByUserIdAfter(userId, cursor.getCreatedAt(), cursor.getId(), CursorPage.probe(size));
         }
+        return CursorPage.of(rows, size, c -> new KeysetCursor(c.getCreatedAt(), c.getId()), listMapper(rows));
+    }
 
-        return result;
+    @Transactional(readOnly = true)
+    public Page<ClientEquipmentResponse> getClientEquipment(Long userId, Pageable pageable) {
+        return contractRepository.findClientEquipment(userId, ContractStatus.ACTIVE, pageable);
     }
 
     @Transactional(readOnly = true)
     public ClientEquipmentResponse getClientEquipmentById(Long userId, Long equipmentId) {
-        List<Contract> activeContracts = contractRepository.findByUserIdAndStatus(
-                userId, ContractStatus.ACTIVE, Pageable.unpaged()).getContent();
-
-        for (Contract contract : activeContracts) {
-            for (ContractItem item : contract.getItems()) {
-                if (item.getEquipmentId().equals(equipmentId)) {
-                    Equipment equipment = equipmentRepository.findById(equipmentId)
-                            .orElseThrow(() -> new ResourceNotFoundException(getMessage("equipment.not.found")));
-
-                    return ClientEquipmentResponse.builder()
-                            .equipmentId(equipment.getId())
-                            .name(equipment.getName())
-                            .brand(equipment.getBrand())
-                            .model(equipment.getModel())
-                            .serialNumber(equipment.getSerialNumber())
-                            .category(equipment.getCategory())
-                            .specifications(equipment.getSpecifications())
-                            .imageUrl(equipment.getImageUrl())
-                            .contractNumber(contract.getContractNumber())
-                            .contractStartDate(contract.getStartDate())
-                            .contractEndDate(contract.getEndDate())
-                            .contractStatus(contract.getStatus().name())
-                            .build();
-                }
-            }
-        }
+        return contractRepository.findClientEquipmentById(userId, ContractStatus.ACTIVE, equipmentId, PageRequest.of(0, 1))
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException(getMessage("equipment.not.found")));
+    }
 
-        throw new ResourceNotFoundException(getMessage("equipment.not.found"));
+    // The exporter opens its own read-only transaction when the response body is written
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StreamingResponseBody exportContracts(ExportFormat format) {
+        return streamingExporter.export(format,
+                List.of("id", "contractNumber", "userId", "quoteId", "status", "startDate", "endDate",
+                        "monthlyAmount", "autoRenew", "createdAt"),
+                contractRepository::streamAllForExport,
+                c -> Arrays.asList(c.getId(), c.getContractNumber(), c.getUserId(), c.getQuoteId(), c.getStatus(),
+                        c.getStartDate(), c.getEndDate(), c.getMonthlyAmount(), c.isAutoRenew(), c.getCreatedAt()));
     }
 
-    private ContractResponse toResponse(Contract contract) {
-        User user = userRepository.findById(contract.getUserId()).orElse(null);
-        List<Long> equipmentIds = contract.getItems().stream()
-                .map(ContractItem::getEquipmentId)
-                .collect(Collectors.toList());
-        Map<Long, Equipment> equipmentMap = equipmentRepository.findAllById(equipmentIds)
-                .stream().collect(Collectors.toMap(Equipment::getId, e -> e));
+    /**
+     * Loads the users and equipment referenced by a whole page up front, so mapping costs
+     * a fixed number of queries however many contracts the page holds.
+     */
+    private Function<Contract, ContractResponse> listMapper(List<Contract> contracts) {
+        Map<Long, User> users = userRepository.findAllById(contracts.stream()
+                        .map(Contract::getUserId)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Equipment> equipmentMap = equipmentRepository.findAllById(contracts.stream()
+                        .flatMap(contract -> contract.getItems().stream())
+                        .map(ContractItem::getEquipmentId)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Equipment::getId, Function.identity()));
+
+        return contract -> toResponse(contract, users.get(contract.getUserId()), equipmentMap);
+    }
 
+    private ContractResponse toResponse(Contract contract, User user, Map<Long, Equipment> equipmentMap) {
         List<ContractItemResponse> itemResponses = contract.getItems().stream()
                 .map(item -> {
                     Equipment eq = equipmentMap.get(item.getEquipmentId());
@@ -261,6 +257,7 @@ public class ContractService {
                 .monthlyAmount(contract.getMonthlyAmount())
                 .status(contract.getStatus().name())
                 .terms(contract.getTerms())
+                .autoRenew(contract.isAutoRenew())
                 .items(itemResponses)
                 .createdAt(contract.getCreatedAt())
                 .build();
@@ -0,0 +1,56 @@
+package com.pcpedia.api.sales.application.service;
+
+import com.pcpedia.api.sales.application.dto.response.QuoteExpiryReport;
+import com.pcpedia.api.sales.domain.model.enums.QuoteStatus;
+import com.pcpedia.api.sales.domain.repository.QuoteRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves SENT quotes past their validUntil date to EXPIRED with one set-based update.
+ * Quote.accept() already refuses stale quotes; this keeps the stored status, and the KPIs counting it, honest.
+ */
+@Service
+@Transactional
+public class QuoteExpiryService {
+
+    private static final int SAMPLE_SIZE = 20;
+
+    private final QuoteRepository quoteRepository;
+    private final Counter expiredCounter;
+
+    public QuoteExpiryService(QuoteRepository quoteRepository, MeterRegistry meterRegistry) {
+        this.quoteRepository = quoteRepository;
+        this.expiredCounter = meterRegistry.counter("quotes.expiry.expired");
+    }
+
+    /**
+     * @param dryRun report what would expire without changing anything
+     */
+    public QuoteExpiryReport expireStaleQuotes(LocalDate today, boolean dryRun) {
+        long candidates = quoteRepository.countByStatusAndValidUntilBefore(QuoteStatus.SENT, today);
+        List<Long> sample = quoteRepository.findIdsByStatusAndValidUntilBefore(
+                QuoteStatus.SENT, today, PageRequest.of(0, SAMPLE_SIZE));
+
+        long expired = 0;
+        if (!dryRun && candidates > 0) {
+            expired = quoteRepository.expireValidUntilBefore(QuoteStatus.SENT, QuoteStatus.EXPIRED, today, LocalDateTime.now());
+            expiredCounter.increment(expired);
+        }
+
+        return QuoteExpiryReport.builder()
+                .runDate(today)
+                .dryRun(dryRun)
+                .candidates(candidates)
+                .expired(expired)
+                .sampleQuoteIds(sample)
+                .build();
+    }
+}
@@ -27,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -134,7 +135,7 @@ public class QuoteService {
             throw new ForbiddenException(getMessage("auth.access.denied"));
         }
 
-        return toResponse(quote);
+        return listMapper(List.of(quote)).apply(quote);
     }
 
     @Transactional(readOnly = true)
@@ -145,17 +146,32 @@ public class QuoteService {
         } else {
             quotes = quoteRepository.findByUserId(userId, pageable);
         }
-        return quotes.map(this::toResponse);
+        return quotes.map(listMapper(quotes.getContent()));
     }
 
-    private QuoteResponse toResponse(Quote quote) {
-        User user = userRepository.findById(quote.getUserId()).orElse(null);
-        List<Long> equipmentIds = quote.getItems().stream()
-                .map(QuoteItem::getEquipmentId)
-                .collect(Collectors.toList());
-        Map<Long, Equipment> equipmentMap = equipmentRepository.findAllById(equipmentIds)
-                .stream().collect(Collectors.toMap(Equipment::getId, e -> e));
+    /**
+     * Loads the users and equipment referenced by a whole page up front, so mapping costs
+     * a fixed number of queries however many quotes the page holds.
+     */
+    private Function<Quote, QuoteResponse> listMapper(List<Quote> quotes) {
+        Map<Long, User> users = userRepository.findAllById(quotes.stream()
+                        .map(Quote::getUserId)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Equipment> equipmentMap = equipmentRepository.findAllById(quotes.stream()
+                        .flatMap(quote -> quote.getItems().stream())
+                        .map(QuoteItem::getEquipmentId)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Equipment::getId, Function.identity()));
+
+        return quote -> toResponse(quote, users.get(quote.getUserId()), equipmentMap);
+    }
 
+    private QuoteResponse toResponse(Quote quote, User user, Map<Long, Equipment> equipmentMap) {
         List<QuoteItemResponse> itemResponses = quote.getItems().stream()
                 .map(item -> {
                     Equipment eq = equipmentMap.get(item.getEquipmentId());
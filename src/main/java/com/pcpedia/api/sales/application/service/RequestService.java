@@ -5,6 +5,7 @@ import com.pcpedia.api.iam.domain.repository.UserRepository;
 import com.pcpedia.api.inventory.domain.model.aggregate.ProductModel;
 import com.pcpedia.api.inventory.domain.repository.ProductModelRepository;
 import com.pcpedia.api.sales.application.dto.request.CreateRequestRequest;
+import com.pcpedia.api.sales.application.dto.request.RequestItemRequest;
 import com.pcpedia.api.sales.application.dto.response.RequestItemResponse;
 import com.pcpedia.api.sales.application.dto.response.RequestResponse;
 import com.pcpedia.api.sales.domain.model.aggregate.Request;
@@ -22,8 +23,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -44,10 +48,9 @@ public class RequestService {
                 .status(RequestStatus.PENDING)
                 .build();
 
+        validateItems(dto.getItems());
+
         dto.getItems().forEach(itemDto -> {
-            if (!productModelRepository.existsById(itemDto.getProductModelId())) {
-                throw new BadRequestException(getMessage("productModel.not.found"));
-            }
             RequestItem item = RequestItem.builder()
                     .productModelId(itemDto.getProductModelId())
                     .quantity(itemDto.getQuantity())
@@ -68,7 +71,7 @@ public class RequestService {
             throw new ForbiddenException(getMessage("auth.access.denied"));
         }
 
-        return toResponse(request);
+        return listMapper(List.of(request)).apply(request);
     }
 
     @Transactional(readOnly = true)
@@ -79,7 +82,7 @@ public class RequestService {
         } else {
             requests = requestRepository.findByUserId(userId, pageable);
         }
-        return requests.map(this::toResponse);
+        return requests.map(listMapper(requests.getContent()));
     }
 
     public void rejectRequest(Long requestId) {
@@ -94,14 +97,67 @@ public class RequestService {
         requestRepository.save(request);
     }
 
-    private RequestResponse toResponse(Request request) {
-        User user = userRepository.findById(request.getUserId()).orElse(null);
-        List<Long> productModelIds = request.getItems().stream()
-                .map(RequestItem::getProductModelId)
-                .collect(Collectors.toList());
-        Map<Long, ProductModel> productModelMap = productModelRepository.findAllById(productModelIds)
-                .stream().collect(Collectors.toMap(ProductModel::getId, pm -> pm));
+    /**
+     * Checks every line against one query: the model must exist, be active and have enough
+     * available units for the total quantity requested across lines. All problems are reported together.
+     */
+    private void validateItems(List<RequestItemRequest> items) {
+        Map<Long, Integer> requestedByModel = new HashMap<>();
+        items.forEach(item -> requestedByModel.merge(item.getProductModelId(), item.getQuantity(), Integer::sum));
+
+        Map<Long, Object[]> availability = new HashMap<>();
+        for (Object[] row : productModelRepository.findAvailabilityByIds(requestedByModel.keySet())) {
+            availability.put((Long) row[0], row);
+        }
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            Long productModelId = items.get(i).getProductModelId();
+            Object[] row = availability.get(productModelId);
+            String field = "items[" + i + "].productModelId";
+
+            if (row == null) {
+                errors.put(field, getMessage("request.item.model-not-found", productModelId));
+            } else if (!Boolean.TRUE.equals(row[1])) {
+                errors.put(field, getMessage("request.item.model-inactive", productModelId));
+            } else {
+                long available = row[2] != null ? (Long) row[2] : 0L;
+                int requested = requestedByModel.get(productModelId);
+                if (requested > available) {
+                    errors.put("items[" + i + "].quantity",
+                            getMessage("request.item.insufficient-stock", productModelId, requested, available));
+                }
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new BadRequestException(getMessage("request.invalid-items"), errors);
+        }
+    }
+
+    /**
+     * Loads the users and product models referenced by a whole page up front, so mapping costs
+     * a fixed number of queries however many requests the page holds.
+     */
+    private Function<Request, RequestResponse> listMapper(List<Request> requests) {
+        Map<Long, User> users = userRepository.findAllById(requests.stream()
+                        .map(Request::getUserId)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, ProductModel> productModelMap = productModelRepository.findAllById(requests.stream()
+                        .flatMap(request -> request.getItems().stream())
+                        .map(RequestItem::getProductModelId)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(ProductModel::getId, Function.identity()));
+
+        return request -> toResponse(request, users.get(request.getUserId()), productModelMap);
+    }
 
+    private RequestResponse toResponse(Request request, User user, Map<Long, ProductModel> productModelMap) {
         List<RequestItemResponse> itemResponses = request.getItems().stream()
                 .map(item -> {
                     ProductModel pm = productModelMap.get(item.getProductModelId());
@@ -128,7 +184,7 @@ public class RequestService {
                 .build();
     }
 
-    private String getMessage(String key) {
-        return messageSource.getMessage(key, null, key, LocaleContextHolder.getLocale());
+    private String getMessage(String key, Object... args) {
+        return messageSource.getMessage(key, args, key, LocaleContextHolder.getLocale());
     }
 }
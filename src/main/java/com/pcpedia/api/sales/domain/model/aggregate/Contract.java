@@ -6,6 +6,7 @@ import com.pcpedia.api.shared.domain.model.AggregateRoot;
 import com.pcpedia.api.shared.domain.model.AuditableEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -13,7 +14,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "contracts")
+@Table(name = "contracts", indexes = {
+        @Index(name = "idx_contracts_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_contracts_user_created_at_id", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_contracts_user_status", columnList = "user_id, status"),
+        @Index(name = "idx_contracts_status_end_date_id", columnList = "status, end_date, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -51,7 +57,12 @@ public class Contract extends AuditableEntity implements AggregateRoot {
     @Column(columnDefinition = "TEXT")
     private String terms;
 
+    @Column(name = "auto_renew")
+    @Builder.Default
+    private Boolean autoRenew = false;
+
     @OneToMany(mappedBy = "contract", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     @Builder.Default
     private List<ContractItem> items = new ArrayList<>();
 
@@ -76,6 +87,10 @@ public class Contract extends AuditableEntity implements AggregateRoot {
         this.status = ContractStatus.RENEWED;
     }
 
+    public boolean isAutoRenew() {
+        return Boolean.TRUE.equals(autoRenew);
+    }
+
     public boolean isActive() {
         return this.status == ContractStatus.ACTIVE;
     }
@@ -88,4 +103,14 @@ public class Contract extends AuditableEntity implements AggregateRoot {
         return "CTR-" + LocalDate.now().getYear() + "-" +
                 String.format("%05d", System.currentTimeMillis() % 100000);
     }
+
+    // Deterministic follow-up number (CTR-2025-01234 -> CTR-2025-01234-R1 -> ...-R2), safe to generate in bulk
+    public static String generateRenewalNumber(String previousNumber) {
+        int suffix = previousNumber.lastIndexOf("-R");
+        if (suffix > 0) {
+            int renewal = Integer.parseInt(previousNumber.substring(suffix + 2));
+            return previousNumber.substring(0, suffix) + "-R" + (renewal + 1);
+        }
+        return previousNumber + "-R1";
+    }
 }
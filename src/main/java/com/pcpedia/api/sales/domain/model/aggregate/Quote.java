@@ -6,6 +6,7 @@ import com.pcpedia.api.shared.domain.model.AggregateRoot;
 import com.pcpedia.api.shared.domain.model.AuditableEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -14,7 +15,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "quotes")
+@Table(name = "quotes", indexes = {
+        @Index(name = "idx_quotes_status_valid_until", columnList = "status, valid_until")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -53,6 +56,7 @@ public class Quote extends AuditableEntity implements AggregateRoot {
     private LocalDateTime sentAt;
 
     @OneToMany(mappedBy = "quote", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     @Builder.Default
     private List<QuoteItem> items = new ArrayList<>();
 
@@ -7,7 +7,9 @@ import lombok.*;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "contract_items")
+@Table(name = "contract_items", indexes = {
+        @Index(name = "idx_contract_items_equipment_contract", columnList = "equipment_id, contract_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,16 +1,28 @@
 package com.pcpedia.api.sales.domain.repository;
 
+import com.pcpedia.api.sales.application.dto.response.ClientEquipmentResponse;
 import com.pcpedia.api.sales.domain.model.aggregate.Contract;
 import com.pcpedia.api.sales.domain.model.enums.ContractStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ContractRepository extends JpaRepository<Contract, Long> {
@@ -36,4 +48,81 @@ public interface ContractRepository extends JpaRepository<Contract, Long> {
 
     @Query("SELECT COALESCE(SUM(c.monthlyAmount), 0) FROM Contract c WHERE c.userId = :userId AND c.status = :status")
     BigDecimal sumMonthlyAmountByUserIdAndStatus(@Param("userId") Long userId, @Param("status") ContractStatus status);
+
+    // Keyset pagination on (createdAt, id) - no OFFSET scan and no COUNT query
+    @Query("SELECT c FROM Contract c WHERE " +
+           "(c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Contract> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                 @Param("id") Long id,
+                                 Pageable pageable);
+
+    @Query("SELECT c FROM Contract c WHERE c.userId = :userId " +
+           "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Contract> findPageByUserIdAfter(@Param("userId") Long userId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    @Query("SELECT MIN(c.id) FROM Contract c WHERE c.status = :status")
+    Long findMinIdByStatus(@Param("status") ContractStatus status);
+
+    @Query("SELECT MAX(c.id) FROM Contract c WHERE c.status = :status")
+    Long findMaxIdByStatus(@Param("status") ContractStatus status);
+
+    // Keyset scan over contracts past their end date, ordered like idx_contracts_status_end_date_id
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Contract c WHERE c.status = :status AND c.endDate < :today " +
+           "AND (c.endDate > :afterEndDate OR (c.endDate = :afterEndDate AND c.id > :afterId)) " +
+           "ORDER BY c.endDate, c.id")
+    List<Contract> findDueForExpiryAfter(@Param("status") ContractStatus status,
+                                         @Param("today") LocalDate today,
+                                         @Param("afterEndDate") LocalDate afterEndDate,
+                                         @Param("afterId") Long afterId,
+                                         Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Contract c SET c.status = :to, c.updatedAt = :now WHERE c.id IN :ids AND c.status = :from")
+    int transitionStatus(@Param("ids") Collection<Long> ids,
+                         @Param("from") ContractStatus from,
+                         @Param("to") ContractStatus to,
+                         @Param("now") LocalDateTime now);
+
+    // [contractId, equipmentId, quantity, unitPrice] for a chunk of contracts
+    @Query("SELECT i.contract.id, i.equipmentId, i.quantity, i.unitPrice FROM ContractItem i WHERE i.contract.id IN :ids")
+    List<Object[]> findItemRowsByContractIds(@Param("ids") Collection<Long> ids);
+
+    // Client equipment straight from contracts -> contract_items -> equipment in one statement
+    @Query(value = "SELECT new com.pcpedia.api.sales.application.dto.response.ClientEquipmentResponse(" +
+                   "e.id, e.name, e.brand, e.model, e.serialNumber, e.category, e.specifications, e.imageUrl, " +
+                   "c.contractNumber, c.startDate, c.endDate, CAST(c.status AS String)) " +
+                   "FROM Contract c JOIN c.items i JOIN Equipment e ON e.id = i.equipmentId " +
+                   "WHERE c.userId = :userId AND c.status = :status " +
+                   "ORDER BY c.startDate DESC, e.id",
+           countQuery = "SELECT COUNT(i) FROM Contract c JOIN c.items i JOIN Equipment e ON e.id = i.equipmentId " +
+                        "WHERE c.userId = :userId AND c.status = :status")
+    Page<ClientEquipmentResponse> findClientEquipment(@Param("userId") Long userId,
+                                                      @Param("status") ContractStatus status,
+                                                      Pageable pageable);
+
+    // Point lookup: contract_items(equipment_id, contract_id) finds the item, contracts is reached by primary key
+    @Query("SELECT new com.pcpedia.api.sales.application.dto.response.ClientEquipmentResponse(" +
+           "e.id, e.name, e.brand, e.model, e.serialNumber, e.category, e.specifications, e.imageUrl, " +
+           "c.contractNumber, c.startDate, c.endDate, CAST(c.status AS String)) " +
+           "FROM Contract c JOIN c.items i JOIN Equipment e ON e.id = i.equipmentId " +
+           "WHERE i.equipmentId = :equipmentId AND c.userId = :userId AND c.status = :status " +
+           "ORDER BY c.startDate DESC")
+    List<ClientEquipmentResponse> findClientEquipmentById(@Param("userId") Long userId,
+                                                          @Param("status") ContractStatus status,
+                                                          @Param("equipmentId") Long equipmentId,
+                                                          Pageable pageable);
+
+    // Forward-only cursor for exports; consume inside a transaction and close the stream
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE), // MySQL row-by-row streaming
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Contract c ORDER BY c.id")
+    Stream<Contract> streamAllForExport();
 }
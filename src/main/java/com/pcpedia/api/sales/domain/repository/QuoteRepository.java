@@ -5,8 +5,14 @@ import com.pcpedia.api.sales.domain.model.enums.QuoteStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -25,4 +31,19 @@ public interface QuoteRepository extends JpaRepository<Quote, Long> {
     long countByUserId(Long userId);
 
     long countByUserIdAndStatus(Long userId, QuoteStatus status);
+
+    // Expiry sweep, served by idx_quotes_status_valid_until
+    long countByStatusAndValidUntilBefore(QuoteStatus status, LocalDate date);
+
+    @Query("SELECT q.id FROM Quote q WHERE q.status = :status AND q.validUntil < :date ORDER BY q.validUntil, q.id")
+    List<Long> findIdsByStatusAndValidUntilBefore(@Param("status") QuoteStatus status,
+                                                  @Param("date") LocalDate date,
+                                                  Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Quote q SET q.status = :to, q.updatedAt = :now WHERE q.status = :from AND q.validUntil < :date")
+    int expireValidUntilBefore(@Param("from") QuoteStatus from,
+                               @Param("to") QuoteStatus to,
+                               @Param("date") LocalDate date,
+                               @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,25 @@
+package com.pcpedia.api.sales.infrastructure;
+
+import com.pcpedia.api.sales.application.dto.response.ContractExpiryReport;
+import com.pcpedia.api.sales.application.service.ContractExpiryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ContractExpiryJob {
+
+    private final ContractExpiryService contractExpiryService;
+
+    @Scheduled(cron = "${contracts.expiry.cron:0 30 1 * * *}")
+    public void run() {
+        ContractExpiryReport report = contractExpiryService.expireDueContracts(LocalDate.now());
+        log.info("Vencimiento de contratos completado: {} vencidos, {} renovados, {} equipos liberados en {} ms",
+                report.getExpired(), report.getRenewed(), report.getEquipmentReleased(), report.getDurationMs());
+    }
+}
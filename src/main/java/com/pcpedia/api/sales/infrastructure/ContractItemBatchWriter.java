@@ -0,0 +1,38 @@
+package com.pcpedia.api.sales.infrastructure;
+
+import com.pcpedia.api.sales.domain.model.entity.ContractItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts contract items as one JDBC batch. ContractItem uses IDENTITY keys, which stops Hibernate
+ * from batching cascaded inserts, so large contracts would otherwise pay one round trip per item.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContractItemBatchWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO contract_items " +
+            "(contract_id, equipment_id, quantity, unit_price) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(Long contractId, List<ContractItem> items) {
+        insertAll(Map.of(contractId, items));
+    }
+
+    public void insertAll(Map<Long, List<ContractItem>> itemsByContract) {
+        List<Object[]> rows = new ArrayList<>();
+        itemsByContract.forEach((contractId, items) -> items.forEach(item ->
+                rows.add(new Object[]{contractId, item.getEquipmentId(), item.getQuantity(), item.getUnitPrice()})));
+
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.pcpedia.api.sales.infrastructure;
+
+import com.pcpedia.api.sales.application.dto.response.QuoteExpiryReport;
+import com.pcpedia.api.sales.application.service.QuoteExpiryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QuoteExpiryJob {
+
+    private final QuoteExpiryService quoteExpiryService;
+
+    @Value("${quotes.expiry.dry-run:false}")
+    private boolean dryRun;
+
+    @Scheduled(cron = "${quotes.expiry.cron:0 15 1 * * *}")
+    public void run() {
+        QuoteExpiryReport report = quoteExpiryService.expireStaleQuotes(LocalDate.now(), dryRun);
+        if (report.isDryRun()) {
+            log.info("Vencimiento de cotizaciones (simulacion): {} cotizaciones vencerian, ejemplos {}",
+                    report.getCandidates(), report.getSampleQuoteIds());
+        } else {
+            log.info("Vencimiento de cotizaciones: {} cotizaciones marcadas como vencidas", report.getExpired());
+        }
+    }
+}
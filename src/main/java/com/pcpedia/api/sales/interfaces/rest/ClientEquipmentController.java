@@ -8,14 +8,14 @@ import com.pcpedia.api.shared.interfaces.rest.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/my-equipment")
 @RequiredArgsConstructor
@@ -27,12 +27,14 @@ public class ClientEquipmentController {
     private final UserRepository userRepository;
 
     @GetMapping
-    @Operation(summary = "List my equipment", description = "Get all equipment leased by the client")
-    public ResponseEntity<ApiResponse<List<ClientEquipmentResponse>>> getMyEquipment(
+    @Operation(summary = "List my equipment", description = "Get paginated list of equipment leased by the client")
+    public ResponseEntity<ApiResponse<Page<ClientEquipmentResponse>>> getMyEquipment(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
             @AuthenticationPrincipal UserDetails userDetails) {
 
         User user = userRepository.findByEmail(userDetails.getUsername()).orElseThrow();
-        List<ClientEquipmentResponse> equipment = contractService.getClientEquipment(user.getId());
+        Page<ClientEquipmentResponse> equipment = contractService.getClientEquipment(user.getId(), PageRequest.of(page, size));
         return ResponseEntity.ok(ApiResponse.success(equipment));
     }
 
@@ -5,6 +5,8 @@ import com.pcpedia.api.iam.domain.repository.UserRepository;
 import com.pcpedia.api.sales.application.dto.request.CreateContractRequest;
 import com.pcpedia.api.sales.application.dto.response.ContractResponse;
 import com.pcpedia.api.sales.application.service.ContractService;
+import com.pcpedia.api.shared.application.pagination.CursorPage;
+import com.pcpedia.api.shared.infrastructure.export.ExportFormat;
 import com.pcpedia.api.shared.interfaces.rest.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,12 +18,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/contracts")
@@ -43,6 +48,18 @@ public class ContractController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(message, contractId));
     }
 
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export contracts", description = "Stream every contract as CSV or NDJSON (format=csv|ndjson)")
+    public ResponseEntity<StreamingResponseBody> exportContracts(@RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("contracts." + exportFormat.getExtension()).build().toString())
+                .body(contractService.exportContracts(exportFormat));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get contract by ID", description = "Get contract details")
     public ResponseEntity<ApiResponse<ContractResponse>> getContractById(
@@ -69,6 +86,19 @@ public class ContractController {
         return ResponseEntity.ok(ApiResponse.success(contracts));
     }
 
+    @GetMapping(params = "after")
+    @Operation(summary = "List contracts by cursor", description = "Get contracts after an opaque cursor; pass an empty cursor for the first page")
+    public ResponseEntity<ApiResponse<CursorPage<ContractResponse>>> getContractsAfter(
+            @RequestParam(name = "after") String after,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        User user = userRepository.findByEmail(userDetails.getUsername()).orElseThrow();
+        boolean isAdmin = user.isAdmin();
+        CursorPage<ContractResponse> contracts = contractService.getContractsAfter(after, size, user.getId(), isAdmin);
+        return ResponseEntity.ok(ApiResponse.success(contracts));
+    }
+
     @PatchMapping("/{id}/cancel")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Cancel contract", description = "Admin cancels an active contract")
@@ -4,7 +4,9 @@ import com.pcpedia.api.iam.domain.model.aggregate.User;
 import com.pcpedia.api.iam.domain.repository.UserRepository;
 import com.pcpedia.api.sales.application.dto.request.CreateQuoteRequest;
 import com.pcpedia.api.sales.application.dto.request.UpdateQuoteRequest;
+import com.pcpedia.api.sales.application.dto.response.QuoteExpiryReport;
 import com.pcpedia.api.sales.application.dto.response.QuoteResponse;
+import com.pcpedia.api.sales.application.service.QuoteExpiryService;
 import com.pcpedia.api.sales.application.service.QuoteService;
 import com.pcpedia.api.shared.interfaces.rest.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,6 +26,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/api/quotes")
 @RequiredArgsConstructor
@@ -31,6 +35,7 @@ import org.springframework.web.bind.annotation.*;
 public class QuoteController {
 
     private final QuoteService quoteService;
+    private final QuoteExpiryService quoteExpiryService;
     private final UserRepository userRepository;
     private final MessageSource messageSource;
 
@@ -117,6 +122,16 @@ public class QuoteController {
         return ResponseEntity.ok(ApiResponse.success(message));
     }
 
+    @PostMapping("/expire")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Expire stale quotes", description = "Mark SENT quotes past their validity as EXPIRED; use dryRun=true to only report them")
+    public ResponseEntity<ApiResponse<QuoteExpiryReport>> expireQuotes(
+            @RequestParam(defaultValue = "true") boolean dryRun) {
+
+        QuoteExpiryReport report = quoteExpiryService.expireStaleQuotes(LocalDate.now(), dryRun);
+        return ResponseEntity.ok(ApiResponse.success(report));
+    }
+
     private String getMessage(String key) {
         return messageSource.getMessage(key, null, key, LocaleContextHolder.getLocale());
     }
@@ -0,0 +1,66 @@
+package com.pcpedia.api.shared.application.pagination;
+
+import com.pcpedia.api.shared.infrastructure.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset-paginated slice of results. Unlike {@link org.springframework.data.domain.Page}
+ * it carries no total count, only the cursor to request the next slice.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final int MAX_SIZE = 100;
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /**
+     * Pageable for a seek query: fetches one extra row to detect whether another slice exists.
+     * Ordering is part of the query itself, so no Sort is attached.
+     */
+    public static Pageable probe(int size) {
+        return PageRequest.of(0, limit(size) + 1);
+    }
+
+    /**
+     * Builds a slice from rows fetched with {@link #probe(int)}.
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size,
+                                          Function<E, KeysetCursor> cursorOf,
+                                          Function<E, T> mapper) {
+        size = limit(size);
+        boolean hasNext = rows.size() > size;
+        List<E> slice = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPage.<T>builder()
+                .content(slice.stream().map(mapper).toList())
+                .size(slice.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(slice.get(slice.size() - 1)).encode() : null)
+                .build();
+    }
+
+    /**
+     * Rejects empty slices and caps oversized ones, so a client cannot pull a whole table in one request.
+     */
+    private static int limit(int size) {
+        if (size < 1) {
+            throw new BadRequestException("pagination.size.invalid");
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+}
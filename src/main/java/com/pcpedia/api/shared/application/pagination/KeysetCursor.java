@@ -0,0 +1,51 @@
+package com.pcpedia.api.shared.application.pagination;
+
+import com.pcpedia.api.shared.infrastructure.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque position in a (createdAt DESC, id DESC) ordering.
+ * Encoded as URL-safe Base64 so clients treat it as a token rather than a value to build.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    // Sorts after every stored row, so the first page uses the same seek predicate as the rest
+    public static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        if (!StringUtils.hasText(token)) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException("pagination.cursor.invalid");
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("pagination.cursor.invalid");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.pcpedia.api.shared.config;
+
+import com.pcpedia.api.inventory.interfaces.rest.CatalogCacheInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final CatalogCacheInterceptor catalogCacheInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(catalogCacheInterceptor).addPathPatterns("/api/catalog/**");
+    }
+}
@@ -3,10 +3,26 @@ package com.pcpedia.api.shared.infrastructure.exception;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import java.util.Map;
+
 @ResponseStatus(HttpStatus.BAD_REQUEST)
 public class BadRequestException extends RuntimeException {
 
+    private final Map<String, String> validationErrors;
+
     public BadRequestException(String message) {
+        this(message, null);
+    }
+
+    /**
+     * @param validationErrors per-field problems, keyed like bean validation paths (e.g. items[2].quantity)
+     */
+    public BadRequestException(String message, Map<String, String> validationErrors) {
         super(message);
+        this.validationErrors = validationErrors;
+    }
+
+    public Map<String, String> getValidationErrors() {
+        return validationErrors;
     }
 }
@@ -40,12 +40,14 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(BadRequestException.class)
     public ResponseEntity<ErrorResponse> handleBadRequestException(
             BadRequestException ex, HttpServletRequest request) {
+        // Static helpers (e.g. pagination) throw a message key; already-resolved messages come back unchanged
         ErrorResponse error = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
                 .status(HttpStatus.BAD_REQUEST.value())
                 .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
-                .message(ex.getMessage())
+                .message(getMessage(ex.getMessage()))
                 .path(request.getRequestURI())
+                .validationErrors(ex.getValidationErrors())
                 .build();
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
@@ -0,0 +1,26 @@
+package com.pcpedia.api.shared.infrastructure.export;
+
+import com.pcpedia.api.shared.infrastructure.exception.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    CSV(new MediaType("text", "csv"), "csv"),
+    NDJSON(new MediaType("application", "x-ndjson"), "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        // Resolved by GlobalExceptionHandler, which treats BadRequestException messages as keys
+        throw new BadRequestException("export.format.unsupported");
+    }
+}
@@ -0,0 +1,122 @@
+package com.pcpedia.api.shared.infrastructure.export;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes a repository stream to the response as CSV or NDJSON without materialising it.
+ *
+ * The stream is opened inside a read-only transaction on the response thread, so it must come from a
+ * forward-only query (see the streamAllForExport repository methods). Rows are flushed and the
+ * persistence context cleared every chunk, which keeps the heap flat however many rows are exported.
+ * Row mappers must only read columns of the streamed entity: a streaming MySQL result set blocks any
+ * other statement on the connection until it is closed.
+ */
+@Component
+public class StreamingExporter {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+
+    public StreamingExporter(PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    public <T> StreamingResponseBody export(ExportFormat format,
+                                            List<String> columns,
+                                            Supplier<Stream<T>> source,
+                                            Function<T, List<Object>> toRow) {
+        return out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<T> rows = source.get()) {
+                    if (format == ExportFormat.CSV) {
+                        writeCsvLine(writer, columns);
+                    }
+                    writer.flush();
+
+                    int inChunk = 0;
+                    Iterator<T> iterator = rows.iterator();
+                    while (iterator.hasNext()) {
+                        List<Object> values = toRow.apply(iterator.next());
+                        if (format == ExportFormat.CSV) {
+                            writeCsvLine(writer, values);
+                        } else {
+                            writeJsonLine(writer, columns, values);
+                        }
+                        if (++inChunk == CHUNK_SIZE) {
+                            writer.flush();
+                            entityManager.clear();
+                            inChunk = 0;
+                        }
+                    }
+                    writer.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        };
+    }
+
+    private void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeJsonLine(Writer writer, List<String> columns, List<Object> values) throws IOException {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            row.put(columns.get(i), values.get(i));
+        }
+        try {
+            writer.write(objectMapper.writeValueAsString(row));
+        } catch (JsonProcessingException e) {
+            throw new IOException(e);
+        }
+        writer.write('\n');
+    }
+
+    private String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
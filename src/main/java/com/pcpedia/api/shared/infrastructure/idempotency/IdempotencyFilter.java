@@ -0,0 +1,201 @@
+package com.pcpedia.api.shared.infrastructure.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pcpedia.api.shared.infrastructure.exception.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Makes POSTs to the configured endpoints safe to retry when they carry an Idempotency-Key header.
+ *
+ * The first request with a key claims it and runs; a 2xx response is stored and later requests with the
+ * same key, principal and body get that response back without reaching the controller. Concurrent
+ * duplicates on this instance wait for the running one and replay it; on another instance they get 409
+ * until it finishes. Failed requests release the key so they can be retried.
+ */
+@Component
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final MessageSource messageSource;
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${idempotency.paths:/api/payments,/api/contracts}")
+    private List<String> paths;
+
+    @Value("${idempotency.wait-seconds:30}")
+    private long waitSeconds;
+
+    public IdempotencyFilter(IdempotencyStore store, ObjectMapper objectMapper, MessageSource messageSource) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.messageSource = messageSource;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(HEADER) == null
+                || !"POST".equals(request.getMethod())
+                || !paths.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String key = request.getHeader(HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST, "idempotency.key.invalid");
+            return;
+        }
+
+        byte[] body = request.getInputStream().readAllBytes();
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String principal = auth != null ? auth.getName() : "anonymous";
+        String recordKey = sha256((principal + "\n" + request.getRequestURI() + "\n" + key).getBytes(StandardCharsets.UTF_8));
+        String requestHash = sha256(body);
+
+        CompletableFuture<Void> mine = new CompletableFuture<>();
+        CompletableFuture<Void> running = inFlight.putIfAbsent(recordKey, mine);
+        try {
+            if (running != null && !awaitRunning(running)) {
+                writeError(request, response, HttpStatus.CONFLICT, "idempotency.key.in-progress");
+                return;
+            }
+
+            Optional<IdempotencyRecord> existing = store.find(recordKey);
+            if (existing.isEmpty() && running == null && store.claim(recordKey, requestHash)) {
+                execute(request, response, filterChain, body, recordKey, requestHash);
+                return;
+            }
+            // Claimed meanwhile by a request on another instance
+            if (existing.isEmpty()) {
+                existing = store.find(recordKey);
+            }
+            respondToDuplicate(request, response, existing, requestHash);
+        } finally {
+            if (running == null) {
+                inFlight.remove(recordKey, mine);
+                mine.complete(null);
+            }
+        }
+    }
+
+    private void execute(HttpServletRequest request,
+                         HttpServletResponse response,
+                         FilterChain filterChain,
+                         byte[] body,
+                         String recordKey,
+                         String requestHash) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body), wrapper);
+            if (HttpStatus.valueOf(wrapper.getStatus()).is2xxSuccessful()) {
+                store.complete(recordKey, requestHash, wrapper.getStatus(), wrapper.getContentType(),
+                        new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.release(recordKey);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void respondToDuplicate(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    Optional<IdempotencyRecord> existing,
+                                    String requestHash) throws IOException {
+        if (existing.isEmpty()) {
+            // The other request failed and released the key between our claim and lookup
+            writeError(request, response, HttpStatus.CONFLICT, "idempotency.key.in-progress");
+            return;
+        }
+        IdempotencyRecord record = existing.get();
+        if (!record.getRequestHash().equals(requestHash)) {
+            writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY, "idempotency.key.reused");
+        } else if (!record.isCompleted()) {
+            writeError(request, response, HttpStatus.CONFLICT, "idempotency.key.in-progress");
+        } else {
+            response.setStatus(record.getStatusCode());
+            if (record.getContentType() != null) {
+                response.setContentType(record.getContentType());
+            }
+            response.setHeader(REPLAYED_HEADER, "true");
+            response.getOutputStream().write(record.getResponseBody().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private boolean awaitRunning(CompletableFuture<Void> running) {
+        try {
+            running.get(waitSeconds, TimeUnit.SECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            return true;
+        }
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response,
+                            HttpStatus status, String messageKey) throws IOException {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(messageSource.getMessage(messageKey, null, messageKey, LocaleContextHolder.getLocale()))
+                .path(request.getRequestURI())
+                .build();
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setStatus(status.value());
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+
+    private static String sha256(byte[] input) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(input));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
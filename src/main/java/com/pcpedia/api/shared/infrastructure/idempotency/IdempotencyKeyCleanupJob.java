@@ -0,0 +1,22 @@
+package com.pcpedia.api.shared.infrastructure.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyKeyCleanupJob {
+
+    private final IdempotencyStore idempotencyStore;
+
+    @Scheduled(cron = "${idempotency.cleanup-cron:0 0 * * * *}")
+    public void run() {
+        int deleted = idempotencyStore.purgeExpired();
+        if (deleted > 0) {
+            log.info("Claves de idempotencia vencidas eliminadas: {}", deleted);
+        }
+    }
+}
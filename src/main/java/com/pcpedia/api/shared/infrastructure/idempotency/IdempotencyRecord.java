@@ -0,0 +1,54 @@
+package com.pcpedia.api.shared.infrastructure.idempotency;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of a request sent with an Idempotency-Key header.
+ * The row is claimed before the request runs (no status yet) and completed with the response it produced.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord {
+
+    // SHA-256 of principal, path and client key, so the key column stays fixed-width
+    @Id
+    @Column(name = "record_key", length = 64)
+    private String recordKey;
+
+    // SHA-256 of the request body; a reused key with a different body is rejected
+    @Column(name = "request_hash", length = 64, nullable = false)
+    private String requestHash;
+
+    @Column(name = "status_code")
+    private Integer statusCode;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public boolean isCompleted() {
+        return statusCode != null;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+}
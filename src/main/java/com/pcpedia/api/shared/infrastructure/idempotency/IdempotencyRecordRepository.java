@@ -0,0 +1,43 @@
+package com.pcpedia.api.shared.infrastructure.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    // 1 when this caller now owns the key, 0 when another request already claimed it
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO idempotency_keys (record_key, request_hash, created_at, expires_at) " +
+                   "VALUES (:recordKey, :requestHash, :now, :expiresAt)",
+           nativeQuery = true)
+    int claim(@Param("recordKey") String recordKey,
+              @Param("requestHash") String requestHash,
+              @Param("now") LocalDateTime now,
+              @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.statusCode = :statusCode, r.contentType = :contentType, " +
+           "r.responseBody = :responseBody WHERE r.recordKey = :recordKey")
+    int complete(@Param("recordKey") String recordKey,
+                 @Param("statusCode") int statusCode,
+                 @Param("contentType") String contentType,
+                 @Param("responseBody") String responseBody);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.recordKey = :recordKey AND r.statusCode IS NULL")
+    int release(@Param("recordKey") String recordKey);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.recordKey = :recordKey AND r.expiresAt < :now")
+    int deleteIfExpired(@Param("recordKey") String recordKey, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
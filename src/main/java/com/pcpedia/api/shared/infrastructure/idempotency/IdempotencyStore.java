@@ -0,0 +1,89 @@
+package com.pcpedia.api.shared.infrastructure.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Idempotency keys in the idempotency_keys table, fronted by a bounded in-memory LRU of completed
+ * responses so replays within one instance never reach the database.
+ */
+@Component
+public class IdempotencyStore {
+
+    private final IdempotencyRecordRepository repository;
+    private final Map<String, IdempotencyRecord> completed;
+
+    @Value("${idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    public IdempotencyStore(IdempotencyRecordRepository repository,
+                            @Value("${idempotency.cache-size:10000}") int cacheSize) {
+        this.repository = repository;
+        this.completed = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<IdempotencyRecord> find(String recordKey) {
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord cached = completed.get(recordKey);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return Optional.of(cached);
+            }
+            completed.remove(recordKey);
+        }
+        return repository.findById(recordKey).filter(r -> !r.isExpired(now));
+    }
+
+    /**
+     * @return true when the caller owns the key and must execute the request
+     */
+    @Transactional
+    public boolean claim(String recordKey, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        repository.deleteIfExpired(recordKey, now);
+        return repository.claim(recordKey, requestHash, now, now.plusHours(ttlHours)) == 1;
+    }
+
+    @Transactional
+    public void complete(String recordKey, String requestHash, int statusCode, String contentType, String body) {
+        repository.complete(recordKey, statusCode, contentType, body);
+        LocalDateTime now = LocalDateTime.now();
+        completed.put(recordKey, IdempotencyRecord.builder()
+                .recordKey(recordKey)
+                .requestHash(requestHash)
+                .statusCode(statusCode)
+                .contentType(contentType)
+                .responseBody(body)
+                .createdAt(now)
+                .expiresAt(now.plusHours(ttlHours))
+                .build());
+    }
+
+    // Frees a key whose request failed so the client can retry it
+    @Transactional
+    public void release(String recordKey) {
+        repository.release(recordKey);
+    }
+
+    @Transactional
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (completed) {
+            completed.values().removeIf(r -> r.isExpired(now));
+        }
+        return repository.deleteExpired(now);
+    }
+}
@@ -0,0 +1,245 @@
+package com.pcpedia.api.shared.infrastructure.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for large numbers of long-lived timeouts.
+ *
+ * Each level is a ring of buckets, {@code tickMs} wide on the first level and one full lower ring wide
+ * on each level above, added lazily as later deadlines arrive. Scheduling and cancelling are O(1).
+ * Only non-empty buckets enter a {@link DelayQueue}, so {@link #advance(long)} sleeps until the next
+ * bucket is due rather than ticking through empty slots. When a bucket comes due its timeouts are
+ * re-inserted: ones still in the future cascade to a finer level, ones that are due are handed to the
+ * expiry callback. Timeouts fire with {@code tickMs} resolution.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final DelayQueue<Bucket<T>> queue = new DelayQueue<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicInteger size = new AtomicInteger();
+    private final Consumer<T> onExpiry;
+    private final Level<T> root;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, Consumer<T> onExpiry) {
+        this.onExpiry = onExpiry;
+        this.root = new Level<>(tickMs, wheelSize, System.currentTimeMillis(), queue);
+    }
+
+    /**
+     * Schedules {@code payload} for {@code deadlineMs} (epoch millis). A deadline already passed fires
+     * on the calling thread.
+     */
+    public Timeout<T> schedule(T payload, long deadlineMs) {
+        Timeout<T> timeout = new Timeout<>(payload, deadlineMs, size);
+        size.incrementAndGet();
+        lock.readLock().lock();
+        try {
+            insert(timeout);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return timeout;
+    }
+
+    /**
+     * Waits up to {@code timeoutMs} for the next bucket to come due and fires everything it holds.
+     *
+     * @return true when a bucket was processed
+     */
+    public boolean advance(long timeoutMs) throws InterruptedException {
+        Bucket<T> bucket = queue.poll(timeoutMs, TimeUnit.MILLISECONDS);
+        if (bucket == null) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            while (bucket != null) {
+                root.advanceClock(bucket.getExpiration());
+                bucket.flush(this::insert);
+                bucket = queue.poll();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return true;
+    }
+
+    // Timeouts scheduled and neither fired nor cancelled
+    public int size() {
+        return size.get();
+    }
+
+    private void insert(Timeout<T> timeout) {
+        if (timeout.isCancelled()) {
+            return;
+        }
+        if (!root.add(timeout) && timeout.expire()) {
+            onExpiry.accept(timeout.getPayload());
+        }
+    }
+
+    /**
+     * Handle on a scheduled payload.
+     */
+    public static final class Timeout<T> {
+
+        private final T payload;
+        private final long deadlineMs;
+        private final AtomicInteger wheelSize;
+        // 0 pending, 1 expired, 2 cancelled
+        private final AtomicInteger state = new AtomicInteger();
+
+        private Timeout(T payload, long deadlineMs, AtomicInteger wheelSize) {
+            this.payload = payload;
+            this.deadlineMs = deadlineMs;
+            this.wheelSize = wheelSize;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+
+        public long getDeadlineMs() {
+            return deadlineMs;
+        }
+
+        public boolean isPending() {
+            return state.get() == 0;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == 2;
+        }
+
+        /**
+         * Stops the timeout from firing. The entry is dropped from its bucket when that bucket comes due.
+         *
+         * @return false when it already fired or was cancelled
+         */
+        public boolean cancel() {
+            if (state.compareAndSet(0, 2)) {
+                wheelSize.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        private boolean expire() {
+            if (state.compareAndSet(0, 1)) {
+                wheelSize.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class Level<T> {
+
+        private final long tickMs;
+        private final int wheelSize;
+        private final long intervalMs;
+        private final DelayQueue<Bucket<T>> queue;
+        private final List<Bucket<T>> buckets;
+        private volatile long currentTimeMs;
+        private volatile Level<T> overflow;
+
+        private Level(long tickMs, int wheelSize, long startMs, DelayQueue<Bucket<T>> queue) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.intervalMs = tickMs * wheelSize;
+            this.queue = queue;
+            this.currentTimeMs = startMs - (startMs % tickMs);
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new Bucket<>());
+            }
+        }
+
+        /**
+         * @return false when the deadline falls within the current tick and the timeout should fire now
+         */
+        private boolean add(Timeout<T> timeout) {
+            long deadline = timeout.getDeadlineMs();
+            if (deadline < currentTimeMs + tickMs) {
+                return false;
+            }
+            if (deadline < currentTimeMs + intervalMs) {
+                long virtualId = deadline / tickMs;
+                Bucket<T> bucket = buckets.get((int) (virtualId % wheelSize));
+                bucket.add(timeout);
+                // Only a bucket whose expiration moved needs (re-)queueing; the others are already queued
+                if (bucket.setExpiration(virtualId * tickMs)) {
+                    queue.offer(bucket);
+                }
+                return true;
+            }
+            return overflow().add(timeout);
+        }
+
+        private void advanceClock(long timeMs) {
+            if (timeMs >= currentTimeMs + tickMs) {
+                currentTimeMs = timeMs - (timeMs % tickMs);
+                if (overflow != null) {
+                    overflow.advanceClock(currentTimeMs);
+                }
+            }
+        }
+
+        private Level<T> overflow() {
+            if (overflow == null) {
+                synchronized (this) {
+                    if (overflow == null) {
+                        overflow = new Level<>(intervalMs, wheelSize, currentTimeMs, queue);
+                    }
+                }
+            }
+            return overflow;
+        }
+    }
+
+    private static final class Bucket<T> implements Delayed {
+
+        private final AtomicLong expiration = new AtomicLong(-1L);
+        private final List<Timeout<T>> timeouts = new ArrayList<>();
+
+        private synchronized void add(Timeout<T> timeout) {
+            timeouts.add(timeout);
+        }
+
+        private void flush(Consumer<Timeout<T>> reinsert) {
+            List<Timeout<T>> due;
+            synchronized (this) {
+                due = new ArrayList<>(timeouts);
+                timeouts.clear();
+                expiration.set(-1L);
+            }
+            due.forEach(reinsert);
+        }
+
+        private boolean setExpiration(long expirationMs) {
+            return expiration.getAndSet(expirationMs) != expirationMs;
+        }
+
+        private long getExpiration() {
+            return expiration.get();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(getExpiration() - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getExpiration(), ((Bucket<?>) other).getExpiration());
+        }
+    }
+}
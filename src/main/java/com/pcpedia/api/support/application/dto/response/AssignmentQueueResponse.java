@@ -0,0 +1,20 @@
+package com.pcpedia.api.support.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssignmentQueueResponse {
+
+    // Unassigned active tickets per priority
+    private Map<String, Integer> waitingByPriority;
+    // Active tickets per assignee id
+    private Map<Long, Integer> loadByAssignee;
+}
@@ -0,0 +1,21 @@
+package com.pcpedia.api.support.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketAssignmentResponse {
+
+    private Long ticketId;
+    private Long assigneeId;
+    private String priority;
+    private LocalDateTime slaDueAt;
+    private LocalDateTime assignedAt;
+}
@@ -24,7 +24,15 @@ public class TicketResponse {
     private String description;
     private String priority;
     private String status;
+    // Only filled for a single ticket; lists carry the count and page comments via /tickets/{id}/comments
     private List<TicketCommentResponse> comments;
+    private Long commentCount;
+    private LocalDateTime lastActivityAt;
     private LocalDateTime resolvedAt;
+    private Long assigneeId;
+    private LocalDateTime assignedAt;
+    private LocalDateTime firstResponseAt;
+    private LocalDateTime slaDueAt;
+    private LocalDateTime slaBreachedAt;
     private LocalDateTime createdAt;
 }
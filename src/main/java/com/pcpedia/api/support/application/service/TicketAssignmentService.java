@@ -0,0 +1,165 @@
+package com.pcpedia.api.support.application.service;
+
+import com.pcpedia.api.iam.domain.model.enums.Role;
+import com.pcpedia.api.iam.domain.repository.UserRepository;
+import com.pcpedia.api.support.application.dto.response.AssignmentQueueResponse;
+import com.pcpedia.api.support.application.dto.response.TicketAssignmentResponse;
+import com.pcpedia.api.support.domain.model.aggregate.Ticket;
+import com.pcpedia.api.support.domain.model.enums.TicketPriority;
+import com.pcpedia.api.support.domain.repository.TicketRepository;
+import com.pcpedia.api.support.infrastructure.TicketAssignmentQueue;
+import com.pcpedia.api.support.infrastructure.TicketAssignmentWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * Hands support tickets to admins from the in-memory {@link TicketAssignmentQueue}.
+ *
+ * Claims run entirely in memory and are persisted later by {@link TicketAssignmentWriter}, so they take
+ * no database connection. Dispatch gives the most urgent waiting tickets to whichever active admin
+ * currently holds the fewest active tickets. Queue changes caused by ticket writes are applied after
+ * commit so a rolled back ticket never becomes claimable.
+ */
+@Service
+@RequiredArgsConstructor
+public class TicketAssignmentService {
+
+    private final TicketAssignmentQueue assignmentQueue;
+    private final TicketAssignmentWriter assignmentWriter;
+    private final TicketRepository ticketRepository;
+    private final UserRepository userRepository;
+    private final TicketSlaService ticketSlaService;
+    private final MessageSource messageSource;
+
+    @Value("${support.assignment.dispatch-batch-size:500}")
+    private int dispatchBatchSize;
+
+    public void onTicketCreated(Ticket ticket) {
+        afterCommit(() -> assignmentQueue.offer(ticket.getId(), ticket.getPriority(), dueAt(ticket)));
+    }
+
+    public void onStatusChanged(Ticket ticket, boolean wasActive) {
+        if (wasActive && !ticket.isActive()) {
+            afterCommit(() -> assignmentQueue.remove(ticket.getId()));
+        } else if (!wasActive && ticket.isActive()) {
+            Long assigneeId = ticket.getAssigneeId();
+            afterCommit(() -> {
+                if (assigneeId != null) {
+                    assignmentQueue.track(ticket.getId(), assigneeId);
+                } else {
+                    assignmentQueue.offer(ticket.getId(), ticket.getPriority(), dueAt(ticket));
+                }
+            });
+        }
+    }
+
+    public Optional<TicketAssignmentResponse> claimNext(Long adminId) {
+        return Optional.ofNullable(assignmentQueue.claimNext(adminId))
+                .map(entry -> assigned(entry, adminId));
+    }
+
+    public TicketAssignmentResponse claim(Long ticketId, Long adminId) {
+        TicketAssignmentQueue.Entry entry = assignmentQueue.claim(ticketId, adminId);
+        if (entry == null) {
+            throw new IllegalStateException(getMessage("ticket.assignment.unavailable"));
+        }
+        return assigned(entry, adminId);
+    }
+
+    /**
+     * Assigns waiting tickets, most urgent first, each to the active admin with the lowest load at that moment.
+     */
+    @Transactional(readOnly = true)
+    public List<TicketAssignmentResponse> dispatch() {
+        PriorityQueue<long[]> admins = new PriorityQueue<>(Comparator.<long[]>comparingLong(a -> a[0])
+                .thenComparingLong(a -> a[1]));
+        for (Long adminId : userRepository.findActiveIdsByRole(Role.ADMIN)) {
+            admins.add(new long[]{assignmentQueue.loadOf(adminId), adminId});
+        }
+
+        List<TicketAssignmentResponse> assignments = new ArrayList<>();
+        while (assignments.size() < dispatchBatchSize && !admins.isEmpty()) {
+            long[] admin = admins.poll();
+            TicketAssignmentQueue.Entry entry = assignmentQueue.claimNext(admin[1]);
+            if (entry == null) {
+                break;
+            }
+            assignments.add(assigned(entry, admin[1]));
+            admin[0]++;
+            admins.add(admin);
+        }
+        return assignments;
+    }
+
+    public AssignmentQueueResponse getQueue() {
+        return AssignmentQueueResponse.builder()
+                .waitingByPriority(assignmentQueue.waitingByPriority())
+                .loadByAssignee(assignmentQueue.loadByAssignee())
+                .build();
+    }
+
+    /**
+     * Rebuilds the queue and assignee loads from the active tickets.
+     *
+     * @return tickets left waiting for assignment
+     */
+    @Transactional(readOnly = true)
+    public int rebuild() {
+        for (Object[] row : ticketRepository.findAssignedActive()) {
+            assignmentQueue.track((Long) row[0], (Long) row[1]);
+        }
+        List<Object[]> waiting = ticketRepository.findUnassignedActive();
+        for (Object[] row : waiting) {
+            TicketPriority priority = (TicketPriority) row[1];
+            LocalDateTime slaDueAt = row[2] != null ? (LocalDateTime) row[2] : ticketSlaService.dueAt(priority, (LocalDateTime) row[3]);
+            assignmentQueue.offer((Long) row[0], priority, slaDueAt);
+        }
+        return waiting.size();
+    }
+
+    private TicketAssignmentResponse assigned(TicketAssignmentQueue.Entry entry, Long adminId) {
+        LocalDateTime now = LocalDateTime.now();
+        assignmentWriter.enqueue(entry.getTicketId(), adminId, now);
+        return TicketAssignmentResponse.builder()
+                .ticketId(entry.getTicketId())
+                .assigneeId(adminId)
+                .priority(entry.getPriority().name())
+                .slaDueAt(entry.getSlaDueAt())
+                .assignedAt(now)
+                .build();
+    }
+
+    private LocalDateTime dueAt(Ticket ticket) {
+        return ticket.getSlaDueAt() != null ? ticket.getSlaDueAt() : ticketSlaService.dueAt(ticket.getPriority(), ticket.getCreatedAt());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private String getMessage(String key) {
+        return messageSource.getMessage(key, null, key, LocaleContextHolder.getLocale());
+    }
+}
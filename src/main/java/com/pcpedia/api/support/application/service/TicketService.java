@@ -12,7 +12,11 @@ import com.pcpedia.api.support.domain.model.aggregate.Ticket;
 import com.pcpedia.api.support.domain.model.entity.TicketComment;
 import com.pcpedia.api.support.domain.model.enums.TicketPriority;
 import com.pcpedia.api.support.domain.model.enums.TicketStatus;
+import com.pcpedia.api.support.domain.repository.TicketCommentRepository;
 import com.pcpedia.api.support.domain.repository.TicketRepository;
+import com.pcpedia.api.support.infrastructure.TicketSlaMonitor;
+import com.pcpedia.api.shared.application.pagination.CursorPage;
+import com.pcpedia.api.shared.application.pagination.KeysetCursor;
 import com.pcpedia.api.shared.infrastructure.exception.ForbiddenException;
 import com.pcpedia.api.shared.infrastructure.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -22,9 +26,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,21 +45,32 @@ import java.util.stream.Collectors;
 public class TicketService {
 
     private final TicketRepository ticketRepository;
+    private final TicketCommentRepository ticketCommentRepository;
     private final UserRepository userRepository;
     private final EquipmentRepository equipmentRepository;
+    private final TicketSlaService ticketSlaService;
+    private final TicketSlaMonitor ticketSlaMonitor;
+    private final TicketAssignmentService ticketAssignmentService;
     private final MessageSource messageSource;
 
     public Long createTicket(Long userId, CreateTicketRequest dto) {
+        TicketPriority priority = dto.getPriority() != null ? dto.getPriority() : TicketPriority.MEDIUM;
         Ticket ticket = Ticket.builder()
                 .userId(userId)
                 .title(dto.getTitle())
                 .description(dto.getDescription())
                 .equipmentId(dto.getEquipmentId())
-                .priority(dto.getPriority() != null ? dto.getPriority() : TicketPriority.MEDIUM)
+                .priority(priority)
                 .status(TicketStatus.OPEN)
+                .slaDueAt(ticketSlaService.dueAt(priority, LocalDateTime.now()))
                 .build();
 
         Ticket savedTicket = ticketRepository.save(ticket);
+        Long ticketId = savedTicket.getId();
+        LocalDateTime slaDueAt = savedTicket.getSlaDueAt();
+        // A rolled-back ticket must not leave a timer behind that fires a breach for a row that never existed
+        afterCommit(() -> ticketSlaMonitor.schedule(ticketId, slaDueAt));
+        ticketAssignmentService.onTicketCreated(savedTicket);
         return savedTicket.getId();
     }
 
@@ -71,12 +94,31 @@ public class TicketService {
         } else {
             tickets = ticketRepository.findByUserId(userId, pageable);
         }
-        return tickets.map(t -> toResponse(t, isAdmin));
+        return tickets.map(listMapper(tickets.getContent(), isAdmin));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<TicketResponse> getAssignedTickets(Long assigneeId, Pageable pageable) {
+        Page<Ticket> tickets = ticketRepository.findActiveByAssigneeId(assigneeId, pageable);
+        return tickets.map(listMapper(tickets.getContent(), true));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TicketResponse> getTicketsAfter(String after, int size, Long userId, boolean isAdmin) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        List<Ticket> rows;
+        if (isAdmin) {
+            rows = ticketRepository.findPageAfter(cursor.getCreatedAt(), cursor.getId(), CursorPage.probe(size));
+        } else {
+            rows = ticketRepository.findPageByUserIdAfter(userId, cursor.getCreatedAt(), cursor.getId(), CursorPage.probe(size));
+        }
+        return CursorPage.of(rows, size, t -> new KeysetCursor(t.getCreatedAt(), t.getId()), listMapper(rows, isAdmin));
     }
 
     public void updateTicketStatus(Long ticketId, TicketStatus status) {
         Ticket ticket = ticketRepository.findById(ticketId)
                 .orElseThrow(() -> new ResourceNotFoundException(getMessage("ticket.not.found")));
+        boolean wasActive = ticket.isActive();
 
         switch (status) {
             case IN_PROGRESS -> ticket.startProgress();
@@ -85,7 +127,11 @@ public class TicketService {
             case OPEN -> ticket.reopen();
         }
 
+        if (status != TicketStatus.OPEN) {
+            recordFirstResponse(ticket);
+        }
         ticketRepository.save(ticket);
+        ticketAssignmentService.onStatusChanged(ticket, wasActive);
     }
 
     public void addComment(Long ticketId, Long userId, boolean isAdmin, AddCommentRequest dto) {
@@ -103,54 +149,164 @@ public class TicketService {
                 .build();
 
         ticket.addComment(comment);
+        if (isAdmin && !comment.getIsInternal()) {
+            recordFirstResponse(ticket);
+        }
         ticketRepository.save(ticket);
     }
 
-    private TicketResponse toResponse(Ticket ticket, boolean isAdmin) {
-        User ticketUser = userRepository.findById(ticket.getUserId()).orElse(null);
-        Equipment equipment = ticket.getEquipmentId() != null ?
-                equipmentRepository.findById(ticket.getEquipmentId()).orElse(null) : null;
+    private void recordFirstResponse(Ticket ticket) {
+        if (ticket.recordFirstResponse(LocalDateTime.now())) {
+            Long ticketId = ticket.getId();
+            afterCommit(() -> ticketSlaMonitor.cancel(ticketId));
+            ticketSlaService.recordFirstResponse(ticket);
+        }
+    }
 
-        List<Long> userIds = ticket.getComments().stream()
-                .map(TicketComment::getUserId)
-                .distinct()
-                .collect(Collectors.toList());
-        Map<Long, User> userMap = userRepository.findAllById(userIds)
-                .stream().collect(Collectors.toMap(User::getId, u -> u));
+    @Transactional(readOnly = true)
+    public CursorPage<TicketCommentResponse> getComments(Long ticketId, String after, int size, Long userId, boolean isAdmin) {
+        Ticket ticket = ticketRepository.findById(ticketId)
+                .orElseThrow(() -> new ResourceNotFoundException(getMessage("ticket.not.found")));
+
+        if (!isAdmin && !ticket.getUserId().equals(userId)) {
+            throw new ForbiddenException(getMessage("auth.access.denied"));
+        }
+
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        List<TicketComment> rows = ticketCommentRepository.findPageByTicketId(ticketId, cursor.getId(), isAdmin, CursorPage.probe(size));
+        Map<Long, User> users = usersById(rows.stream().map(TicketComment::getUserId).toList());
+        return CursorPage.of(rows, size, c -> new KeysetCursor(c.getCreatedAt(), c.getId()), c -> toCommentResponse(c, users));
+    }
 
-        List<TicketCommentResponse> comments = ticket.getComments().stream()
+    /**
+     * Mapper for a page of tickets: users, equipment and comment summaries are loaded for the
+     * whole page up front, so each row maps without further queries and comments stay unloaded.
+     */
+    private Function<Ticket, TicketResponse> listMapper(List<Ticket> tickets, boolean isAdmin) {
+        if (tickets.isEmpty()) {
+            return t -> toResponse(t, Map.of(), Map.of(), null);
+        }
+        Map<Long, User> users = usersById(tickets.stream().map(Ticket::getUserId).toList());
+        Map<Long, Equipment> equipment = equipmentRepository.findAllById(tickets.stream()
+                        .map(Ticket::getEquipmentId)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Equipment::getId, Function.identity()));
+        Map<Long, Object[]> summaries = new HashMap<>();
+        for (Object[] row : ticketCommentRepository.summarizeByTicketIds(tickets.stream().map(Ticket::getId).toList(), isAdmin)) {
+            summaries.put((Long) row[0], row);
+        }
+
+        return ticket -> {
+            TicketResponse response = toResponse(ticket, users, equipment, null);
+            Object[] summary = summaries.get(ticket.getId());
+            response.setCommentCount(summary != null ? (Long) summary[1] : 0L);
+            response.setLastActivityAt(latest(ticket.getUpdatedAt(), summary != null ? (LocalDateTime) summary[2] : null));
+            return response;
+        };
+    }
+
+    private TicketResponse toResponse(Ticket ticket, boolean isAdmin) {
+        List<TicketComment> visible = ticket.getComments().stream()
                 .filter(c -> isAdmin || !Boolean.TRUE.equals(c.getIsInternal()))
-                .map(c -> {
-                    User commentUser = userMap.get(c.getUserId());
-                    return TicketCommentResponse.builder()
-                            .id(c.getId())
-                            .userId(c.getUserId())
-                            .userName(commentUser != null ? commentUser.getName() : null)
-                            .userRole(commentUser != null ? commentUser.getRole().name() : null)
-                            .content(c.getContent())
-                            .isInternal(c.getIsInternal())
-                            .createdAt(c.getCreatedAt())
-                            .build();
-                })
+                .toList();
+
+        List<Long> userIds = new ArrayList<>();
+        userIds.add(ticket.getUserId());
+        visible.forEach(c -> userIds.add(c.getUserId()));
+        Map<Long, User> users = usersById(userIds);
+        Map<Long, Equipment> equipment = ticket.getEquipmentId() != null ?
+                equipmentRepository.findById(ticket.getEquipmentId())
+                        .map(e -> Map.of(e.getId(), e))
+                        .orElse(Map.of()) : Map.of();
+
+        List<TicketCommentResponse> comments = visible.stream()
+                .map(c -> toCommentResponse(c, users))
                 .collect(Collectors.toList());
 
+        TicketResponse response = toResponse(ticket, users, equipment, comments);
+        response.setCommentCount((long) visible.size());
+        response.setLastActivityAt(latest(ticket.getUpdatedAt(), visible.stream()
+                .map(TicketComment::getCreatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null)));
+        return response;
+    }
+
+    private TicketResponse toResponse(Ticket ticket,
+                                      Map<Long, User> users,
+                                      Map<Long, Equipment> equipment,
+                                      List<TicketCommentResponse> comments) {
+        User ticketUser = users.get(ticket.getUserId());
+        Equipment ticketEquipment = ticket.getEquipmentId() != null ? equipment.get(ticket.getEquipmentId()) : null;
+
         return TicketResponse.builder()
                 .id(ticket.getId())
                 .userId(ticket.getUserId())
                 .userName(ticketUser != null ? ticketUser.getName() : null)
                 .companyName(ticketUser != null ? ticketUser.getCompanyName() : null)
                 .equipmentId(ticket.getEquipmentId())
-                .equipmentName(equipment != null ? equipment.getName() : null)
+                .equipmentName(ticketEquipment != null ? ticketEquipment.getName() : null)
                 .title(ticket.getTitle())
                 .description(ticket.getDescription())
                 .priority(ticket.getPriority().name())
                 .status(ticket.getStatus().name())
                 .comments(comments)
                 .resolvedAt(ticket.getResolvedAt())
+                .assigneeId(ticket.getAssigneeId())
+                .assignedAt(ticket.getAssignedAt())
+                .firstResponseAt(ticket.getFirstResponseAt())
+                .slaDueAt(ticket.getSlaDueAt())
+                .slaBreachedAt(ticket.getSlaBreachedAt())
                 .createdAt(ticket.getCreatedAt())
                 .build();
     }
 
+    private TicketCommentResponse toCommentResponse(TicketComment comment, Map<Long, User> users) {
+        User commentUser = users.get(comment.getUserId());
+        return TicketCommentResponse.builder()
+                .id(comment.getId())
+                .userId(comment.getUserId())
+                .userName(commentUser != null ? commentUser.getName() : null)
+                .userRole(commentUser != null ? commentUser.getRole().name() : null)
+                .content(comment.getContent())
+                .isInternal(comment.getIsInternal())
+                .createdAt(comment.getCreatedAt())
+                .build();
+    }
+
+    private Map<Long, User> usersById(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findAllById(userIds.stream().distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b != null && b.isAfter(a) ? b : a;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     private String getMessage(String key) {
         return messageSource.getMessage(key, null, key, LocaleContextHolder.getLocale());
     }
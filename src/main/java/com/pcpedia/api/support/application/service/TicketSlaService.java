@@ -0,0 +1,97 @@
+package com.pcpedia.api.support.application.service;
+
+import com.pcpedia.api.support.domain.model.aggregate.Ticket;
+import com.pcpedia.api.support.domain.model.enums.TicketPriority;
+import com.pcpedia.api.support.domain.model.event.TicketSlaBreachedEvent;
+import com.pcpedia.api.support.domain.repository.TicketRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * First-response SLA per ticket priority: deadlines, breach recording and response-time metrics.
+ * Deadlines are tracked in memory by TicketSlaMonitor, which calls {@link #onDeadline(Long)} when one passes.
+ */
+@Service
+@Slf4j
+public class TicketSlaService {
+
+    private final TicketRepository ticketRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${support.sla.urgent-minutes:60}")
+    private long urgentMinutes;
+
+    @Value("${support.sla.high-minutes:240}")
+    private long highMinutes;
+
+    @Value("${support.sla.medium-minutes:1440}")
+    private long mediumMinutes;
+
+    @Value("${support.sla.low-minutes:4320}")
+    private long lowMinutes;
+
+    public TicketSlaService(TicketRepository ticketRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            MeterRegistry meterRegistry) {
+        this.ticketRepository = ticketRepository;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Duration responseTarget(TicketPriority priority) {
+        return Duration.ofMinutes(switch (priority) {
+            case URGENT -> urgentMinutes;
+            case HIGH -> highMinutes;
+            case MEDIUM -> mediumMinutes;
+            case LOW -> lowMinutes;
+        });
+    }
+
+    public LocalDateTime dueAt(TicketPriority priority, LocalDateTime openedAt) {
+        return openedAt.plus(responseTarget(priority));
+    }
+
+    public void recordFirstResponse(Ticket ticket) {
+        if (ticket.getCreatedAt() == null || ticket.getFirstResponseAt() == null) {
+            return;
+        }
+        Timer.builder("tickets.first.response")
+                .description("Time from ticket creation to its first response")
+                .tag("priority", ticket.getPriority().name())
+                .tag("breached", String.valueOf(ticket.getSlaBreachedAt() != null))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.between(ticket.getCreatedAt(), ticket.getFirstResponseAt()));
+    }
+
+    /**
+     * Records the breach if the ticket is still waiting; a ticket answered meanwhile is left alone.
+     *
+     * @return true when a breach was recorded
+     */
+    @Transactional
+    public boolean onDeadline(Long ticketId) {
+        if (ticketRepository.markSlaBreached(ticketId, LocalDateTime.now()) == 0) {
+            return false;
+        }
+        Ticket ticket = ticketRepository.findById(ticketId).orElse(null);
+        if (ticket == null) {
+            return false;
+        }
+        meterRegistry.counter("tickets.sla.breaches", "priority", ticket.getPriority().name()).increment();
+        log.warn("Ticket {} ({}) sin primera respuesta: SLA vencido a las {}",
+                ticket.getId(), ticket.getPriority(), ticket.getSlaDueAt());
+        eventPublisher.publishEvent(new TicketSlaBreachedEvent(ticket.getId(), ticket.getUserId(),
+                ticket.getPriority(), ticket.getSlaDueAt()));
+        return true;
+    }
+}
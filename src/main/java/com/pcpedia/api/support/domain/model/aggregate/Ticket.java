@@ -7,13 +7,19 @@ import com.pcpedia.api.support.domain.model.enums.TicketPriority;
 import com.pcpedia.api.support.domain.model.enums.TicketStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "tickets")
+@Table(name = "tickets", indexes = {
+        @Index(name = "idx_tickets_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_tickets_user_created_at_id", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_tickets_status_first_response_at", columnList = "status, first_response_at"),
+        @Index(name = "idx_tickets_assignee_status_created_at", columnList = "assignee_id, status, created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -50,7 +56,26 @@ public class Ticket extends AuditableEntity implements AggregateRoot {
     @Column(name = "resolved_at")
     private LocalDateTime resolvedAt;
 
+    // First admin reply or move out of OPEN; stops the SLA clock
+    @Column(name = "first_response_at")
+    private LocalDateTime firstResponseAt;
+
+    // Deadline for the first response, from the SLA policy of the priority at creation
+    @Column(name = "sla_due_at")
+    private LocalDateTime slaDueAt;
+
+    @Column(name = "sla_breached_at")
+    private LocalDateTime slaBreachedAt;
+
+    // Written only by TicketAssignmentWriter; read-only here so saving a ticket never overwrites an assignment
+    @Column(name = "assignee_id", insertable = false, updatable = false)
+    private Long assigneeId;
+
+    @Column(name = "assigned_at", insertable = false, updatable = false)
+    private LocalDateTime assignedAt;
+
     @OneToMany(mappedBy = "ticket", cascade = CascadeType.ALL)
+    @BatchSize(size = 50)
     @Builder.Default
     private List<TicketComment> comments = new ArrayList<>();
 
@@ -84,6 +109,22 @@ public class Ticket extends AuditableEntity implements AggregateRoot {
         this.resolvedAt = null;
     }
 
+    /**
+     * @return true when this is the first response, false when one was already recorded
+     */
+    public boolean recordFirstResponse(LocalDateTime at) {
+        if (this.firstResponseAt != null) {
+            return false;
+        }
+        this.firstResponseAt = at;
+        return true;
+    }
+
+    // OPEN or IN_PROGRESS: still needs someone working on it
+    public boolean isActive() {
+        return this.status == TicketStatus.OPEN || this.status == TicketStatus.IN_PROGRESS;
+    }
+
     public boolean isOpen() {
         return this.status == TicketStatus.OPEN;
     }
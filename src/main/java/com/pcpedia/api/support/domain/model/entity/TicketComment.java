@@ -6,7 +6,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "ticket_comments")
+@Table(name = "ticket_comments", indexes = {
+        @Index(name = "idx_ticket_comments_ticket_id_id", columnList = "ticket_id, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
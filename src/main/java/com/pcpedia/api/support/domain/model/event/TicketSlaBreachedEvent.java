@@ -0,0 +1,20 @@
+package com.pcpedia.api.support.domain.model.event;
+
+import com.pcpedia.api.support.domain.model.enums.TicketPriority;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Raised once when a ticket reaches its first-response deadline still OPEN and unanswered.
+ */
+@Getter
+@AllArgsConstructor
+public class TicketSlaBreachedEvent {
+
+    private final Long ticketId;
+    private final Long userId;
+    private final TicketPriority priority;
+    private final LocalDateTime slaDueAt;
+}
@@ -0,0 +1,33 @@
+package com.pcpedia.api.support.domain.repository;
+
+import com.pcpedia.api.support.domain.model.entity.TicketComment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TicketCommentRepository extends JpaRepository<TicketComment, Long> {
+
+    /**
+     * Comment count and latest comment time per ticket for a whole page in one grouped query.
+     * Rows are [ticketId, count, maxCreatedAt]; tickets without visible comments are absent.
+     */
+    @Query("SELECT c.ticket.id, COUNT(c), MAX(c.createdAt) FROM TicketComment c " +
+           "WHERE c.ticket.id IN :ticketIds AND (:includeInternal = true OR c.isInternal = false) " +
+           "GROUP BY c.ticket.id")
+    List<Object[]> summarizeByTicketIds(@Param("ticketIds") Collection<Long> ticketIds,
+                                        @Param("includeInternal") boolean includeInternal);
+
+    // Newest first; seeks on (ticket_id, id)
+    @Query("SELECT c FROM TicketComment c WHERE c.ticket.id = :ticketId AND c.id < :id " +
+           "AND (:includeInternal = true OR c.isInternal = false) ORDER BY c.id DESC")
+    List<TicketComment> findPageByTicketId(@Param("ticketId") Long ticketId,
+                                           @Param("id") Long id,
+                                           @Param("includeInternal") boolean includeInternal,
+                                           Pageable pageable);
+}
@@ -6,10 +6,14 @@ import com.pcpedia.api.support.domain.model.enums.TicketStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface TicketRepository extends JpaRepository<Ticket, Long> {
 
@@ -34,4 +38,48 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
     long countOpenTicketsByUserId(@Param("userId") Long userId);
 
     long countByPriority(TicketPriority priority);
+
+    // Rows are [id, priority, slaDueAt, createdAt], for seeding the assignment queue
+    @Query("SELECT t.id, t.priority, t.slaDueAt, t.createdAt FROM Ticket t WHERE t.assigneeId IS NULL " +
+           "AND t.status IN ('OPEN', 'IN_PROGRESS')")
+    List<Object[]> findUnassignedActive();
+
+    // Rows are [id, assigneeId], for seeding per-agent load
+    @Query("SELECT t.id, t.assigneeId FROM Ticket t WHERE t.assigneeId IS NOT NULL " +
+           "AND t.status IN ('OPEN', 'IN_PROGRESS')")
+    List<Object[]> findAssignedActive();
+
+    @Query("SELECT t FROM Ticket t WHERE t.assigneeId = :assigneeId AND t.status IN ('OPEN', 'IN_PROGRESS')")
+    Page<Ticket> findActiveByAssigneeId(@Param("assigneeId") Long assigneeId, Pageable pageable);
+
+    // OPEN tickets still waiting for a first response, to rebuild the SLA timers at startup
+    @Query("SELECT t FROM Ticket t WHERE t.status = com.pcpedia.api.support.domain.model.enums.TicketStatus.OPEN " +
+           "AND t.firstResponseAt IS NULL AND t.slaBreachedAt IS NULL")
+    List<Ticket> findAwaitingFirstResponse();
+
+    /**
+     * Flags the breach only if the ticket is still OPEN and unanswered, so a timer that races a response
+     * (or survives a rolled back insert) does nothing. 1 when the breach was recorded.
+     */
+    @Modifying
+    @Query("UPDATE Ticket t SET t.slaBreachedAt = :now WHERE t.id = :id " +
+           "AND t.status = com.pcpedia.api.support.domain.model.enums.TicketStatus.OPEN " +
+           "AND t.firstResponseAt IS NULL AND t.slaBreachedAt IS NULL")
+    int markSlaBreached(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // Keyset pagination on (createdAt, id) - no OFFSET scan and no COUNT query
+    @Query("SELECT t FROM Ticket t WHERE " +
+           "(t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Ticket> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                               @Param("id") Long id,
+                               Pageable pageable);
+
+    @Query("SELECT t FROM Ticket t WHERE t.userId = :userId " +
+           "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Ticket> findPageByUserIdAfter(@Param("userId") Long userId,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
 }
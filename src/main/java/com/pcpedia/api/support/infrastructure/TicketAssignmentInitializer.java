@@ -0,0 +1,21 @@
+package com.pcpedia.api.support.infrastructure;
+
+import com.pcpedia.api.support.application.service.TicketAssignmentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TicketAssignmentInitializer implements CommandLineRunner {
+
+    private final TicketAssignmentService ticketAssignmentService;
+
+    @Override
+    public void run(String... args) {
+        int waiting = ticketAssignmentService.rebuild();
+        log.info("Cola de asignacion de tickets reconstruida con {} tickets sin asignar", waiting);
+    }
+}
@@ -0,0 +1,187 @@
+package com.pcpedia.api.support.infrastructure;
+
+import com.pcpedia.api.support.domain.model.enums.TicketPriority;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory queue of unassigned active tickets plus the live load of every assignee.
+ *
+ * Each priority level is a lock-free skip list ordered by SLA deadline, and each entry carries an
+ * owner that is set once with a compare-and-set. Agents claiming the next ticket and agents claiming
+ * a specific one therefore never block each other or touch the database; whoever wins the CAS owns
+ * the ticket and the loser moves on.
+ *
+ * Recording the winner's load and removing a ticket both run inside a compute on the ticket's
+ * assignee slot, so a ticket removed right after it was claimed is never counted against anyone.
+ */
+@Component
+public class TicketAssignmentQueue {
+
+    private static final TicketPriority[] CLAIM_ORDER = {
+            TicketPriority.URGENT, TicketPriority.HIGH, TicketPriority.MEDIUM, TicketPriority.LOW
+    };
+
+    private static final long CLOSED = -1L;
+
+    private final Map<TicketPriority, ConcurrentSkipListSet<Entry>> levels = new EnumMap<>(TicketPriority.class);
+    private final Map<Long, Entry> waiting = new ConcurrentHashMap<>();
+    private final Map<Long, Long> assigneeByTicket = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicInteger> loadByAssignee = new ConcurrentHashMap<>();
+
+    public TicketAssignmentQueue() {
+        for (TicketPriority priority : TicketPriority.values()) {
+            levels.put(priority, new ConcurrentSkipListSet<>(Entry.ORDER));
+        }
+    }
+
+    public void offer(Long ticketId, TicketPriority priority, LocalDateTime slaDueAt) {
+        Entry entry = new Entry(ticketId, priority, slaDueAt);
+        if (waiting.putIfAbsent(ticketId, entry) == null) {
+            levels.get(priority).add(entry);
+        }
+    }
+
+    /**
+     * Takes the most urgent waiting ticket for {@code assigneeId}.
+     *
+     * @return the claimed entry, or null when nothing is waiting
+     */
+    public Entry claimNext(Long assigneeId) {
+        for (TicketPriority priority : CLAIM_ORDER) {
+            ConcurrentSkipListSet<Entry> level = levels.get(priority);
+            Entry entry;
+            while ((entry = level.pollFirst()) != null) {
+                if (entry.claim(assigneeId) && trackClaimed(entry, assigneeId)) {
+                    return entry;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the claimed entry, or null when the ticket is not waiting or another agent got it first
+     */
+    public Entry claim(Long ticketId, Long assigneeId) {
+        Entry entry = waiting.get(ticketId);
+        if (entry == null || !entry.claim(assigneeId)) {
+            return null;
+        }
+        levels.get(entry.getPriority()).remove(entry);
+        return trackClaimed(entry, assigneeId) ? entry : null;
+    }
+
+    // Counts an active ticket against its assignee
+    public void track(Long ticketId, Long assigneeId) {
+        assigneeByTicket.compute(ticketId, (id, current) -> {
+            if (current == null) {
+                increment(assigneeId);
+            }
+            return assigneeId;
+        });
+    }
+
+    // Forgets a ticket that is no longer active, whether it was waiting or assigned
+    public void remove(Long ticketId) {
+        assigneeByTicket.compute(ticketId, (id, assigneeId) -> {
+            Entry entry = waiting.remove(ticketId);
+            if (entry != null) {
+                // Claimed by nobody from here on, and not tracked by an agent that already won it
+                entry.claim(CLOSED);
+                entry.removed = true;
+                levels.get(entry.getPriority()).remove(entry);
+            }
+            if (assigneeId != null) {
+                loadByAssignee.computeIfPresent(assigneeId, (key, load) -> load.decrementAndGet() > 0 ? load : null);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Moves a won entry from waiting to tracked. Runs under the same key as {@link #remove}, so it either
+     * completes before the removal (which then releases the load) or sees the entry already removed.
+     *
+     * @return false when the ticket was removed between the claim and this call
+     */
+    private boolean trackClaimed(Entry entry, Long assigneeId) {
+        boolean[] tracked = new boolean[1];
+        assigneeByTicket.compute(entry.getTicketId(), (id, current) -> {
+            if (entry.removed) {
+                return current;
+            }
+            waiting.remove(id, entry);
+            if (current == null) {
+                increment(assigneeId);
+            }
+            tracked[0] = true;
+            return assigneeId;
+        });
+        return tracked[0];
+    }
+
+    private void increment(Long assigneeId) {
+        // Inside compute, so a concurrent release cannot drop the counter between lookup and increment
+        loadByAssignee.compute(assigneeId, (id, load) -> {
+            AtomicInteger counter = load != null ? load : new AtomicInteger();
+            counter.incrementAndGet();
+            return counter;
+        });
+    }
+
+    public int loadOf(Long assigneeId) {
+        AtomicInteger load = loadByAssignee.get(assigneeId);
+        return load != null ? load.get() : 0;
+    }
+
+    public Map<String, Integer> waitingByPriority() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (TicketPriority priority : CLAIM_ORDER) {
+            counts.put(priority.name(), levels.get(priority).size());
+        }
+        return counts;
+    }
+
+    public Map<Long, Integer> loadByAssignee() {
+        Map<Long, Integer> loads = new LinkedHashMap<>();
+        loadByAssignee.forEach((id, load) -> loads.put(id, load.get()));
+        return loads;
+    }
+
+    @Getter
+    public static final class Entry {
+
+        private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::getSlaDueAt)
+                .thenComparing(Entry::getTicketId);
+
+        private final Long ticketId;
+        private final TicketPriority priority;
+        private final LocalDateTime slaDueAt;
+        private final AtomicLong owner = new AtomicLong();
+        // Written and read only inside a compute on the ticket's assignee slot
+        @Getter(AccessLevel.NONE)
+        private boolean removed;
+
+        private Entry(Long ticketId, TicketPriority priority, LocalDateTime slaDueAt) {
+            this.ticketId = ticketId;
+            this.priority = priority;
+            this.slaDueAt = slaDueAt;
+        }
+
+        private boolean claim(Long assigneeId) {
+            return owner.compareAndSet(0L, assigneeId);
+        }
+    }
+}
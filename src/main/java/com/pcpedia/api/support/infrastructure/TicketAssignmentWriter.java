@@ -0,0 +1,70 @@
+package com.pcpedia.api.support.infrastructure;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Persists ticket assignments off the request path. Claims only append to a lock-free buffer that is
+ * drained into one JDBC batch per flush interval, so a burst of claims costs a single round trip.
+ * The in-memory queue is authoritative until a flush lands.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TicketAssignmentWriter {
+
+    private static final String UPDATE_SQL = "UPDATE tickets SET assignee_id = ?, assigned_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Queue<Object[]> pending = new ConcurrentLinkedQueue<>();
+
+    @Value("${support.assignment.flush-batch-size:1000}")
+    private int batchSize;
+
+    public void enqueue(Long ticketId, Long assigneeId, LocalDateTime assignedAt) {
+        pending.add(new Object[]{assigneeId, Timestamp.valueOf(assignedAt), ticketId});
+    }
+
+    @Scheduled(fixedDelayString = "${support.assignment.flush-ms:500}")
+    @PreDestroy
+    public void flush() {
+        List<Object[]> rows = new ArrayList<>();
+        Object[] row;
+        while ((row = pending.poll()) != null) {
+            rows.add(row);
+            if (rows.size() == batchSize) {
+                if (!write(rows)) {
+                    return;
+                }
+                rows = new ArrayList<>();
+            }
+        }
+        if (!rows.isEmpty()) {
+            write(rows);
+        }
+    }
+
+    private boolean write(List<Object[]> rows) {
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, rows);
+            return true;
+        } catch (RuntimeException e) {
+            // Kept for the next flush; a ticket is assigned once while active, so re-queued rows cannot overwrite a newer one
+            pending.addAll(rows);
+            log.error("No se pudieron guardar {} asignaciones de tickets, se reintentara", rows.size(), e);
+            return false;
+        }
+    }
+}
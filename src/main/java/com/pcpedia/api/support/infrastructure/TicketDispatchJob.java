@@ -0,0 +1,27 @@
+package com.pcpedia.api.support.infrastructure;
+
+import com.pcpedia.api.support.application.dto.response.TicketAssignmentResponse;
+import com.pcpedia.api.support.application.service.TicketAssignmentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TicketDispatchJob {
+
+    private final TicketAssignmentService ticketAssignmentService;
+
+    // Disabled unless support.assignment.dispatch-cron is set; agents can always claim on their own
+    @Scheduled(cron = "${support.assignment.dispatch-cron:-}")
+    public void run() {
+        List<TicketAssignmentResponse> assignments = ticketAssignmentService.dispatch();
+        if (!assignments.isEmpty()) {
+            log.info("Tickets asignados automaticamente: {}", assignments.size());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.pcpedia.api.support.infrastructure;
+
+import com.pcpedia.api.support.application.service.TicketSlaService;
+import com.pcpedia.api.support.domain.model.aggregate.Ticket;
+import com.pcpedia.api.support.domain.repository.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TicketSlaInitializer implements CommandLineRunner {
+
+    private final TicketRepository ticketRepository;
+    private final TicketSlaService ticketSlaService;
+    private final TicketSlaMonitor ticketSlaMonitor;
+
+    @Override
+    public void run(String... args) {
+        List<Ticket> tickets = ticketRepository.findAwaitingFirstResponse();
+        for (Ticket ticket : tickets) {
+            // Tickets created before SLA tracking have no stored deadline; derive it from the policy
+            ticketSlaMonitor.schedule(ticket.getId(), ticket.getSlaDueAt() != null
+                    ? ticket.getSlaDueAt()
+                    : ticketSlaService.dueAt(ticket.getPriority(), ticket.getCreatedAt()));
+        }
+        log.info("Temporizadores de SLA reconstruidos para {} tickets abiertos", tickets.size());
+    }
+}
@@ -0,0 +1,106 @@
+package com.pcpedia.api.support.infrastructure;
+
+import com.pcpedia.api.shared.infrastructure.timer.HierarchicalTimingWheel;
+import com.pcpedia.api.support.application.service.TicketSlaService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Holds one timer per ticket awaiting its first response and reports each deadline as it passes.
+ *
+ * Timers live in a hierarchical timing wheel driven by a single daemon thread that sleeps until the
+ * next non-empty bucket is due, so the tickets table is never polled. Breaches are recorded on a
+ * separate thread to keep the wheel responsive. The wheel is in-memory only; TicketSlaInitializer
+ * rebuilds it from the open tickets at startup.
+ */
+@Component
+@Slf4j
+public class TicketSlaMonitor {
+
+    private final TicketSlaService ticketSlaService;
+    private final HierarchicalTimingWheel<Long> wheel;
+    private final Map<Long, HierarchicalTimingWheel.Timeout<Long>> timeouts = new ConcurrentHashMap<>();
+    private final ExecutorService breachExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "ticket-sla-breach");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public TicketSlaMonitor(TicketSlaService ticketSlaService,
+                            MeterRegistry meterRegistry,
+                            @Value("${support.sla.tick-ms:1000}") long tickMs,
+                            @Value("${support.sla.wheel-size:60}") int wheelSize) {
+        this.ticketSlaService = ticketSlaService;
+        this.wheel = new HierarchicalTimingWheel<>(tickMs, wheelSize, this::onExpiry);
+        meterRegistry.gauge("tickets.sla.timers", wheel, HierarchicalTimingWheel::size);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(() -> {
+            while (running) {
+                try {
+                    wheel.advance(1000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }, "ticket-sla-wheel");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        worker.interrupt();
+        breachExecutor.shutdown();
+    }
+
+    // Replaces any timer the ticket already had; a deadline already passed is reported right away
+    public void schedule(Long ticketId, LocalDateTime dueAt) {
+        long deadlineMs = dueAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        HierarchicalTimingWheel.Timeout<Long> timeout = wheel.schedule(ticketId, deadlineMs);
+        HierarchicalTimingWheel.Timeout<Long> previous = timeouts.put(ticketId, timeout);
+        if (previous != null && previous != timeout) {
+            previous.cancel();
+        }
+        if (!timeout.isPending()) {
+            timeouts.remove(ticketId, timeout);
+        }
+    }
+
+    public void cancel(Long ticketId) {
+        HierarchicalTimingWheel.Timeout<Long> timeout = timeouts.remove(ticketId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    private void onExpiry(Long ticketId) {
+        timeouts.computeIfPresent(ticketId, (id, timeout) -> timeout.isPending() ? timeout : null);
+        breachExecutor.execute(() -> {
+            try {
+                ticketSlaService.onDeadline(ticketId);
+            } catch (RuntimeException e) {
+                log.error("No se pudo registrar el vencimiento del SLA del ticket {}", ticketId, e);
+            }
+        });
+    }
+}
@@ -5,8 +5,13 @@ import com.pcpedia.api.iam.domain.repository.UserRepository;
 import com.pcpedia.api.support.application.dto.request.AddCommentRequest;
 import com.pcpedia.api.support.application.dto.request.CreateTicketRequest;
 import com.pcpedia.api.support.application.dto.request.UpdateTicketStatusRequest;
+import com.pcpedia.api.support.application.dto.response.AssignmentQueueResponse;
+import com.pcpedia.api.support.application.dto.response.TicketAssignmentResponse;
+import com.pcpedia.api.support.application.dto.response.TicketCommentResponse;
 import com.pcpedia.api.support.application.dto.response.TicketResponse;
+import com.pcpedia.api.support.application.service.TicketAssignmentService;
 import com.pcpedia.api.support.application.service.TicketService;
+import com.pcpedia.api.shared.application.pagination.CursorPage;
 import com.pcpedia.api.shared.interfaces.rest.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -25,6 +30,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/tickets")
 @RequiredArgsConstructor
@@ -32,6 +39,7 @@ import org.springframework.web.bind.annotation.*;
 public class TicketController {
 
     private final TicketService ticketService;
+    private final TicketAssignmentService ticketAssignmentService;
     private final UserRepository userRepository;
     private final MessageSource messageSource;
 
@@ -49,6 +57,59 @@ public class TicketController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(message, ticketId));
     }
 
+    @GetMapping("/queue")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Assignment queue", description = "Unassigned tickets per priority and active tickets per assignee")
+    public ResponseEntity<ApiResponse<AssignmentQueueResponse>> getQueue() {
+        return ResponseEntity.ok(ApiResponse.success(ticketAssignmentService.getQueue()));
+    }
+
+    @GetMapping("/assigned")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "My assigned tickets", description = "Active tickets assigned to the current admin")
+    public ResponseEntity<ApiResponse<Page<TicketResponse>>> getAssignedTickets(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        User user = userRepository.findByEmail(userDetails.getUsername()).orElseThrow();
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Page<TicketResponse> tickets = ticketService.getAssignedTickets(user.getId(), pageable);
+        return ResponseEntity.ok(ApiResponse.success(tickets));
+    }
+
+    @PostMapping("/claim")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Claim next ticket", description = "Assign the most urgent waiting ticket to the current admin")
+    public ResponseEntity<ApiResponse<TicketAssignmentResponse>> claimNext(
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        User user = userRepository.findByEmail(userDetails.getUsername()).orElseThrow();
+        return ticketAssignmentService.claimNext(user.getId())
+                .map(assignment -> ResponseEntity.ok(ApiResponse.success(getMessage("ticket.claimed"), assignment)))
+                .orElseGet(() -> ResponseEntity.ok(ApiResponse.success(getMessage("ticket.queue.empty"))));
+    }
+
+    @PostMapping("/{id}/claim")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Claim ticket", description = "Assign a specific waiting ticket to the current admin")
+    public ResponseEntity<ApiResponse<TicketAssignmentResponse>> claim(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        User user = userRepository.findByEmail(userDetails.getUsername()).orElseThrow();
+        TicketAssignmentResponse assignment = ticketAssignmentService.claim(id, user.getId());
+        return ResponseEntity.ok(ApiResponse.success(getMessage("ticket.claimed"), assignment));
+    }
+
+    @PostMapping("/dispatch")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Dispatch tickets", description = "Assign waiting tickets to active admins, least loaded first")
+    public ResponseEntity<ApiResponse<List<TicketAssignmentResponse>>> dispatch() {
+        List<TicketAssignmentResponse> assignments = ticketAssignmentService.dispatch();
+        return ResponseEntity.ok(ApiResponse.success(assignments));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get ticket by ID", description = "Get ticket details")
     public ResponseEntity<ApiResponse<TicketResponse>> getTicketById(
@@ -75,6 +136,19 @@ public class TicketController {
         return ResponseEntity.ok(ApiResponse.success(tickets));
     }
 
+    @GetMapping(params = "after")
+    @Operation(summary = "List tickets by cursor", description = "Get tickets after an opaque cursor; pass an empty cursor for the first page")
+    public ResponseEntity<ApiResponse<CursorPage<TicketResponse>>> getTicketsAfter(
+            @RequestParam(name = "after") String after,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        User user = userRepository.findByEmail(userDetails.getUsername()).orElseThrow();
+        boolean isAdmin = user.isAdmin();
+        CursorPage<TicketResponse> tickets = ticketService.getTicketsAfter(after, size, user.getId(), isAdmin);
+        return ResponseEntity.ok(ApiResponse.success(tickets));
+    }
+
     @PatchMapping("/{id}/status")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Update ticket status", description = "Admin updates ticket status")
@@ -87,6 +161,20 @@ public class TicketController {
         return ResponseEntity.ok(ApiResponse.success(message));
     }
 
+    @GetMapping("/{id}/comments")
+    @Operation(summary = "List comments", description = "Ticket comments newest first; pass the returned cursor as after for the next page")
+    public ResponseEntity<ApiResponse<CursorPage<TicketCommentResponse>>> getComments(
+            @PathVariable Long id,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        User user = userRepository.findByEmail(userDetails.getUsername()).orElseThrow();
+        boolean isAdmin = user.isAdmin();
+        CursorPage<TicketCommentResponse> comments = ticketService.getComments(id, after, size, user.getId(), isAdmin);
+        return ResponseEntity.ok(ApiResponse.success(comments));
+    }
+
     @PostMapping("/{id}/comments")
     @Operation(summary = "Add comment", description = "Add a comment to a ticket")
     public ResponseEntity<ApiResponse<Void>> addComment(
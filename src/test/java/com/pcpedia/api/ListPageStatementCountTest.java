@@ -0,0 +1,182 @@
+package com.pcpedia.api;
+
+import com.pcpedia.api.iam.domain.model.aggregate.User;
+import com.pcpedia.api.iam.domain.model.enums.Role;
+import com.pcpedia.api.iam.domain.repository.UserRepository;
+import com.pcpedia.api.inventory.domain.model.aggregate.Equipment;
+import com.pcpedia.api.inventory.domain.model.aggregate.ProductModel;
+import com.pcpedia.api.inventory.domain.repository.EquipmentRepository;
+import com.pcpedia.api.inventory.domain.repository.ProductModelRepository;
+import com.pcpedia.api.sales.application.service.ContractService;
+import com.pcpedia.api.sales.application.service.QuoteService;
+import com.pcpedia.api.sales.application.service.RequestService;
+import com.pcpedia.api.sales.domain.model.aggregate.Contract;
+import com.pcpedia.api.sales.domain.model.aggregate.Quote;
+import com.pcpedia.api.sales.domain.model.aggregate.Request;
+import com.pcpedia.api.sales.domain.model.entity.ContractItem;
+import com.pcpedia.api.sales.domain.model.entity.QuoteItem;
+import com.pcpedia.api.sales.domain.model.entity.RequestItem;
+import com.pcpedia.api.sales.domain.repository.ContractRepository;
+import com.pcpedia.api.sales.domain.repository.QuoteRepository;
+import com.pcpedia.api.sales.domain.repository.RequestRepository;
+import com.pcpedia.api.support.application.service.TicketService;
+import com.pcpedia.api.support.domain.model.aggregate.Ticket;
+import com.pcpedia.api.support.domain.model.entity.TicketComment;
+import com.pcpedia.api.support.domain.repository.TicketRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A list page must cost the same number of statements whether it holds one row or a full page:
+ * item and comment collections are batch-fetched and referenced users, equipment and models are loaded per page.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ListPageStatementCountTest {
+
+    private static final int ROWS = 12;
+    private static final int ITEMS_PER_ROW = 2;
+
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private NamedParameterJdbcTemplate jdbcTemplate;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EquipmentRepository equipmentRepository;
+    @Autowired private ProductModelRepository productModelRepository;
+    @Autowired private ContractRepository contractRepository;
+    @Autowired private QuoteRepository quoteRepository;
+    @Autowired private RequestRepository requestRepository;
+    @Autowired private TicketRepository ticketRepository;
+    @Autowired private ContractService contractService;
+    @Autowired private QuoteService quoteService;
+    @Autowired private RequestService requestService;
+    @Autowired private TicketService ticketService;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> equipmentIds = new ArrayList<>();
+    private final List<Long> productModelIds = new ArrayList<>();
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String batch = UUID.randomUUID().toString().substring(0, 8);
+
+        for (int row = 0; row < ROWS; row++) {
+            User user = userRepository.save(User.builder()
+                    .email("list-test-" + batch + "-" + row + "@example.com")
+                    .password("x")
+                    .name("List test " + row)
+                    .role(Role.CLIENT)
+                    .build());
+            userIds.add(user.getId());
+
+            Contract contract = Contract.builder()
+                    .userId(user.getId())
+                    .contractNumber("T" + batch + row)
+                    .startDate(LocalDate.now())
+                    .endDate(LocalDate.now().plusMonths(12))
+                    .build();
+            Quote quote = Quote.builder().userId(user.getId()).build();
+            Request request = Request.builder().userId(user.getId()).build();
+            Ticket ticket = Ticket.builder().userId(user.getId()).title("List test").description("List test").build();
+
+            for (int i = 0; i < ITEMS_PER_ROW; i++) {
+                // Every item points at its own unit and model, so per-item lookups would show up in the count
+                Equipment equipment = equipmentRepository.save(Equipment.builder()
+                        .name("List test unit")
+                        .serialNumber("LIST-TEST-" + batch + "-" + row + "-" + i)
+                        .build());
+                ProductModel productModel = productModelRepository.save(ProductModel.builder()
+                        .name("List test model " + batch + "-" + row + "-" + i)
+                        .build());
+                equipmentIds.add(equipment.getId());
+                productModelIds.add(productModel.getId());
+
+                contract.addItem(ContractItem.builder().equipmentId(equipment.getId()).quantity(1).unitPrice(BigDecimal.TEN).build());
+                quote.addItem(QuoteItem.builder().equipmentId(equipment.getId()).quantity(1).unitPrice(BigDecimal.TEN).build());
+                request.addItem(RequestItem.builder().productModelId(productModel.getId()).quantity(1).build());
+                ticket.getComments().add(TicketComment.builder().ticket(ticket).userId(user.getId()).content("Comment " + i).build());
+            }
+            ticket.setEquipmentId(equipmentIds.get(equipmentIds.size() - 1));
+
+            contractRepository.save(contract);
+            quoteRepository.save(quote);
+            requestRepository.save(request);
+            ticketRepository.save(ticket);
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        Map<String, Object> users = Map.of("ids", userIds);
+        jdbcTemplate.update("DELETE ci FROM contract_items ci JOIN contracts c ON c.id = ci.contract_id WHERE c.user_id IN (:ids)", users);
+        jdbcTemplate.update("DELETE FROM contracts WHERE user_id IN (:ids)", users);
+        jdbcTemplate.update("DELETE qi FROM quote_items qi JOIN quotes q ON q.id = qi.quote_id WHERE q.user_id IN (:ids)", users);
+        jdbcTemplate.update("DELETE FROM quotes WHERE user_id IN (:ids)", users);
+        jdbcTemplate.update("DELETE ri FROM request_items ri JOIN requests r ON r.id = ri.request_id WHERE r.user_id IN (:ids)", users);
+        jdbcTemplate.update("DELETE FROM requests WHERE user_id IN (:ids)", users);
+        jdbcTemplate.update("DELETE tc FROM ticket_comments tc JOIN tickets t ON t.id = tc.ticket_id WHERE t.user_id IN (:ids)", users);
+        jdbcTemplate.update("DELETE FROM tickets WHERE user_id IN (:ids)", users);
+        jdbcTemplate.update("DELETE FROM equipment WHERE id IN (:ids)", Map.of("ids", equipmentIds));
+        jdbcTemplate.update("DELETE FROM product_model_attributes WHERE product_model_id IN (:ids)", Map.of("ids", productModelIds));
+        jdbcTemplate.update("DELETE FROM product_models WHERE id IN (:ids)", Map.of("ids", productModelIds));
+        jdbcTemplate.update("DELETE FROM users WHERE id IN (:ids)", users);
+    }
+
+    @Test
+    void contractPageDoesNotGrowWithRows() {
+        assertFlat(pageable -> contractService.getAllContracts(pageable, null, true));
+    }
+
+    @Test
+    void contractCursorPageDoesNotGrowWithRows() {
+        assertFlat(pageable -> contractService.getContractsAfter(null, pageable.getPageSize(), null, true));
+    }
+
+    @Test
+    void quotePageDoesNotGrowWithRows() {
+        assertFlat(pageable -> quoteService.getAllQuotes(pageable, null, true));
+    }
+
+    @Test
+    void requestPageDoesNotGrowWithRows() {
+        assertFlat(pageable -> requestService.getAllRequests(pageable, null, true));
+    }
+
+    @Test
+    void ticketPageDoesNotGrowWithRows() {
+        assertFlat(pageable -> ticketService.getAllTickets(pageable, null, true));
+    }
+
+    private void assertFlat(Consumer<Pageable> listPage) {
+        long single = statementsFor(listPage, 1);
+        long full = statementsFor(listPage, ROWS);
+        assertThat(full).as("statements for a page of %d rows vs a page of 1", ROWS).isEqualTo(single);
+    }
+
+    private long statementsFor(Consumer<Pageable> listPage, int size) {
+        statistics.clear();
+        listPage.accept(PageRequest.of(0, size, Sort.by("createdAt").descending()));
+        return statistics.getPrepareStatementCount();
+    }
+}
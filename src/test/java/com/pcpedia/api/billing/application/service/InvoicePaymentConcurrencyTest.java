@@ -0,0 +1,181 @@
+package com.pcpedia.api.billing.application.service;
+
+import com.pcpedia.api.billing.application.dto.request.RegisterPaymentRequest;
+import com.pcpedia.api.billing.domain.model.aggregate.Invoice;
+import com.pcpedia.api.billing.domain.model.enums.InvoiceStatus;
+import com.pcpedia.api.billing.domain.repository.InvoiceRepository;
+import com.pcpedia.api.iam.domain.model.aggregate.User;
+import com.pcpedia.api.iam.domain.model.enums.Role;
+import com.pcpedia.api.iam.domain.repository.UserRepository;
+import com.pcpedia.api.shared.infrastructure.exception.BadRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent payments against one invoice: paid_amount must always equal the sum of the stored payments,
+ * including when a status transition runs in the middle of them.
+ */
+@SpringBootTest
+class InvoicePaymentConcurrencyTest {
+
+    private static final int THREADS = 12;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private InvoiceService invoiceService;
+
+    @Autowired
+    private RevenueRollupService revenueRollupService;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private final List<Long> invoiceIds = new ArrayList<>();
+
+    @BeforeEach
+    void createClient() {
+        userId = userRepository.save(User.builder()
+                .email("payment-test-" + UUID.randomUUID() + "@example.com")
+                .password("x")
+                .name("Payment test")
+                .role(Role.CLIENT)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        Map<String, Object> invoices = Map.of("ids", invoiceIds);
+        jdbcTemplate.update("DELETE FROM payments WHERE invoice_id IN (:ids)", invoices);
+        jdbcTemplate.update("DELETE FROM invoices WHERE id IN (:ids)", invoices);
+        jdbcTemplate.update("DELETE FROM ledger_entries WHERE user_id = :id", Map.of("id", userId));
+        jdbcTemplate.update("DELETE FROM client_balances WHERE user_id = :id", Map.of("id", userId));
+        jdbcTemplate.update("DELETE FROM users WHERE id = :id", Map.of("id", userId));
+        invoiceIds.clear();
+        revenueRollupService.rebuild();
+    }
+
+    @Test
+    void partialPaymentsAddUpAndCloseTheInvoiceOnce() throws Exception {
+        Long invoiceId = createInvoice(new BigDecimal("100.00"), LocalDate.now().plusDays(30));
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // 20 payments of 7.00 against 100.00: the 15th covers it, the rest find the invoice already PAID
+        runConcurrently(20, i -> () -> {
+            try {
+                paymentService.registerPayment(payment(invoiceId, "7.00", "P-" + i));
+                accepted.incrementAndGet();
+            } catch (BadRequestException notPayable) {
+                rejected.incrementAndGet();
+            }
+            return null;
+        });
+
+        Invoice invoice = invoiceRepository.findById(invoiceId).orElseThrow();
+        assertThat(accepted.get()).isEqualTo(15);
+        assertThat(rejected.get()).isEqualTo(5);
+        assertThat(invoice.getStatus()).isEqualTo(InvoiceStatus.PAID);
+        assertThat(invoice.getPaidAmount()).isEqualByComparingTo("105.00");
+        assertThat(invoice.getPaidAmount()).isEqualByComparingTo(storedPayments(invoiceId));
+    }
+
+    @Test
+    void markingOverdueDoesNotLoseConcurrentPayments() throws Exception {
+        Long invoiceId = createInvoice(new BigDecimal("1000.00"), LocalDate.now().minusDays(1));
+
+        // One caller flips the invoice to OVERDUE while the others keep paying; OVERDUE stays payable
+        runConcurrently(THREADS, i -> () -> {
+            if (i == THREADS / 2) {
+                invoiceService.markAsOverdue(invoiceId);
+            } else {
+                paymentService.registerPayment(payment(invoiceId, "10.00", "O-" + i));
+            }
+            return null;
+        });
+
+        Invoice invoice = invoiceRepository.findById(invoiceId).orElseThrow();
+        assertThat(invoice.getStatus()).isEqualTo(InvoiceStatus.OVERDUE);
+        assertThat(invoice.getPaidAmount()).isEqualByComparingTo(new BigDecimal("10.00").multiply(BigDecimal.valueOf(THREADS - 1)));
+        assertThat(invoice.getPaidAmount()).isEqualByComparingTo(storedPayments(invoiceId));
+    }
+
+    private Long createInvoice(BigDecimal amount, LocalDate dueDate) {
+        Invoice invoice = invoiceRepository.save(Invoice.builder()
+                .contractId(0L)
+                .userId(userId)
+                .invoiceNumber("T-" + UUID.randomUUID().toString().substring(0, 16))
+                .issueDate(LocalDate.now())
+                .dueDate(dueDate)
+                .amount(amount)
+                .status(InvoiceStatus.PENDING)
+                .build());
+        invoiceIds.add(invoice.getId());
+        return invoice.getId();
+    }
+
+    private RegisterPaymentRequest payment(Long invoiceId, String amount, String reference) {
+        return RegisterPaymentRequest.builder()
+                .invoiceId(invoiceId)
+                .amount(new BigDecimal(amount))
+                .paymentDate(LocalDate.now())
+                .paymentMethod("TRANSFER")
+                .reference(reference + "-" + invoiceId)
+                .build();
+    }
+
+    private BigDecimal storedPayments(Long invoiceId) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(amount), 0) FROM payments WHERE invoice_id = :id",
+                Map.of("id", invoiceId), BigDecimal.class);
+    }
+
+    private void runConcurrently(int calls, IntFunction<Callable<Void>> call) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < calls; i++) {
+                Callable<Void> task = call.apply(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.pcpedia.api.inventory.application.service;
+
+import com.pcpedia.api.inventory.domain.model.aggregate.Equipment;
+import com.pcpedia.api.inventory.domain.model.enums.EquipmentStatus;
+import com.pcpedia.api.inventory.domain.repository.EquipmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Many contracts racing for overlapping units: the conditional UPDATE must hand each unit to exactly one of them.
+ */
+@SpringBootTest
+class EquipmentLeasingServiceConcurrencyTest {
+
+    private static final int UNITS = 40;
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 20;
+    private static final int UNITS_PER_ATTEMPT = 4;
+
+    @Autowired
+    private EquipmentLeasingService equipmentLeasingService;
+
+    @Autowired
+    private EquipmentRepository equipmentRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final List<Long> unitIds = new ArrayList<>();
+
+    @BeforeEach
+    void createUnits() {
+        String batch = UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < UNITS; i++) {
+            Equipment equipment = equipmentRepository.save(Equipment.builder()
+                    .name("Stress unit " + i)
+                    .serialNumber("LEASE-TEST-" + batch + "-" + i)
+                    .status(EquipmentStatus.AVAILABLE)
+                    .build());
+            unitIds.add(equipment.getId());
+        }
+    }
+
+    @AfterEach
+    void deleteUnits() {
+        Map<String, Object> params = Map.of("ids", unitIds);
+        jdbcTemplate.update("DELETE FROM equipment_status_events WHERE equipment_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM equipment WHERE id IN (:ids)", params);
+        unitIds.clear();
+    }
+
+    @Test
+    void eachUnitIsLeasedExactlyOnce() throws Exception {
+        Map<Long, AtomicInteger> wins = new ConcurrentHashMap<>();
+        AtomicInteger successfulCalls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int attempt = 0; attempt < ATTEMPTS_PER_THREAD; attempt++) {
+                    // Sliding windows that overlap with neighbouring threads and wrap around the unit list
+                    int offset = (thread * 3 + attempt * 7) % UNITS;
+                    List<Long> wanted = new ArrayList<>();
+                    for (int i = 0; i < UNITS_PER_ATTEMPT; i++) {
+                        wanted.add(unitIds.get((offset + i) % UNITS));
+                    }
+                    try {
+                        equipmentLeasingService.leaseAll(wanted);
+                        successfulCalls.incrementAndGet();
+                        wanted.forEach(id -> wins.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet());
+                    } catch (IllegalStateException | PessimisticLockingFailureException lost) {
+                        // Lost the race for at least one unit; the whole call rolled back
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertThat(successfulCalls.get()).isPositive();
+        wins.forEach((id, count) -> assertThat(count.get()).as("unit %d", id).isEqualTo(1));
+
+        Set<Long> leased = Set.copyOf(jdbcTemplate.queryForList(
+                "SELECT id FROM equipment WHERE id IN (:ids) AND status = 'LEASED'",
+                Map.of("ids", unitIds), Long.class));
+        assertThat(leased).isEqualTo(wins.keySet());
+        assertThat(leased).hasSize(successfulCalls.get() * UNITS_PER_ATTEMPT);
+
+        Integer leaseEvents = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM equipment_status_events WHERE equipment_id IN (:ids) AND new_status = 'LEASED'",
+                Map.of("ids", unitIds), Integer.class);
+        assertThat(leaseEvents).isEqualTo(leased.size());
+    }
+}
@@ -0,0 +1,77 @@
+package com.pcpedia.api.inventory.interfaces.rest;
+
+import com.pcpedia.api.iam.domain.model.aggregate.User;
+import com.pcpedia.api.iam.domain.model.enums.Role;
+import com.pcpedia.api.iam.domain.repository.UserRepository;
+import com.pcpedia.api.shared.security.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A streamed export is written on an ASYNC dispatch; it must not be denied after the JWT-authorized request started it.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class InventoryExportSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User admin;
+
+    @BeforeEach
+    void createAdmin() {
+        admin = userRepository.save(User.builder()
+                .email("export-test-" + UUID.randomUUID() + "@example.com")
+                .password("x")
+                .name("Export test")
+                .role(Role.ADMIN)
+                .build());
+    }
+
+    @AfterEach
+    void deleteAdmin() {
+        userRepository.delete(admin);
+    }
+
+    @Test
+    void exportCompletesOnAsyncDispatch() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/inventory/export")
+                        .param("format", "csv")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenProvider.generateToken(admin.getEmail())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().string(startsWith("id,")));
+    }
+
+    @Test
+    void exportStillRequiresAuthentication() throws Exception {
+        mockMvc.perform(get("/api/inventory/export").param("format", "csv"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,81 @@
+package com.pcpedia.api.shared.infrastructure.timer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Wall-clock tests with a 10 ms tick and 8 buckets per level: level 0 spans 80 ms, level 1 640 ms,
+ * so deadlines a few hundred ms out start on an upper level and have to cascade down to fire.
+ */
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK_MS = 10;
+    private static final int WHEEL_SIZE = 8;
+
+    private final Map<String, Long> fired = new LinkedHashMap<>();
+    private final HierarchicalTimingWheel<String> wheel =
+            new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, payload -> fired.put(payload, System.currentTimeMillis()));
+
+    @Test
+    void cascadesAcrossLevelsAndFiresInDeadlineOrder() throws Exception {
+        long now = System.currentTimeMillis();
+        Map<String, Long> deadlines = new LinkedHashMap<>();
+        deadlines.put("level-0", now + 50);
+        deadlines.put("level-1", now + 300);
+        deadlines.put("level-2", now + 900);
+        deadlines.forEach((payload, deadline) -> wheel.schedule(payload, deadline));
+        assertThat(wheel.size()).isEqualTo(3);
+
+        runUntil(now + 1100);
+
+        assertThat(fired.keySet()).containsExactly("level-0", "level-1", "level-2");
+        deadlines.forEach((payload, deadline) ->
+                assertThat(fired.get(payload)).as(payload).isGreaterThanOrEqualTo(deadline - TICK_MS));
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void cancelledTimeoutNeverFires() throws Exception {
+        long now = System.currentTimeMillis();
+        HierarchicalTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", now + 100);
+        HierarchicalTimingWheel.Timeout<String> kept = wheel.schedule("kept", now + 120);
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(cancelled.isCancelled()).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+
+        runUntil(now + 300);
+
+        assertThat(fired.keySet()).containsExactly("kept");
+        assertThat(kept.isPending()).isFalse();
+        assertThat(kept.cancel()).as("cancel after firing").isFalse();
+        assertThat(cancelled.cancel()).as("second cancel").isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void pastDeadlineFiresOnTheCallingThread() {
+        List<Thread> firedOn = new ArrayList<>();
+        HierarchicalTimingWheel<String> inline = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE,
+                payload -> firedOn.add(Thread.currentThread()));
+
+        HierarchicalTimingWheel.Timeout<String> timeout = inline.schedule("late", System.currentTimeMillis() - 1000);
+
+        assertThat(firedOn).containsExactly(Thread.currentThread());
+        assertThat(timeout.isPending()).isFalse();
+        assertThat(timeout.cancel()).isFalse();
+        assertThat(inline.size()).isZero();
+    }
+
+    private void runUntil(long untilMs) throws InterruptedException {
+        while (System.currentTimeMillis() < untilMs) {
+            wheel.advance(20);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.pcpedia.api.support.infrastructure;
+
+import com.pcpedia.api.support.domain.model.enums.TicketPriority;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TicketAssignmentQueueTest {
+
+    private static final int TICKETS = 400;
+    private static final int AGENTS = 6;
+    private static final int ROUNDS = 200;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    void claimNextTakesHighestPriorityThenEarliestDeadline() {
+        TicketAssignmentQueue queue = new TicketAssignmentQueue();
+        queue.offer(1L, TicketPriority.LOW, now.plusHours(1));
+        queue.offer(2L, TicketPriority.URGENT, now.plusHours(4));
+        queue.offer(3L, TicketPriority.URGENT, now.plusHours(2));
+        queue.offer(4L, TicketPriority.HIGH, now);
+
+        List<Long> order = new ArrayList<>();
+        TicketAssignmentQueue.Entry entry;
+        while ((entry = queue.claimNext(10L)) != null) {
+            order.add(entry.getTicketId());
+        }
+
+        assertThat(order).containsExactly(3L, 2L, 4L, 1L);
+        assertThat(queue.loadOf(10L)).isEqualTo(4);
+    }
+
+    @Test
+    void removedTicketCannotBeClaimedAndReleasesLoad() {
+        TicketAssignmentQueue queue = new TicketAssignmentQueue();
+        queue.offer(1L, TicketPriority.MEDIUM, now);
+        queue.offer(2L, TicketPriority.MEDIUM, now.plusMinutes(5));
+
+        queue.remove(1L);
+        assertThat(queue.claim(1L, 10L)).isNull();
+
+        assertThat(queue.claim(2L, 10L)).isNotNull();
+        assertThat(queue.claim(2L, 11L)).as("already claimed").isNull();
+        assertThat(queue.loadOf(10L)).isEqualTo(1);
+
+        queue.remove(2L);
+        assertThat(queue.loadOf(10L)).isZero();
+        assertThat(queue.loadByAssignee()).isEmpty();
+    }
+
+    /**
+     * Agents draining the queue with claimNext and claim race a closer removing tickets. Every ticket goes
+     * to at most one agent, and an agent's load is exactly the tickets it won that were not removed.
+     */
+    @Test
+    void concurrentClaimsAndRemovalsKeepLoadsExact() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            TicketAssignmentQueue queue = new TicketAssignmentQueue();
+            TicketPriority[] priorities = TicketPriority.values();
+            for (long ticketId = 1; ticketId <= TICKETS; ticketId++) {
+                queue.offer(ticketId, priorities[(int) (ticketId % priorities.length)], now.plusMinutes(ticketId % 37));
+            }
+
+            Map<Long, Long> winners = new ConcurrentHashMap<>();
+            Set<Long> duplicates = ConcurrentHashMap.newKeySet();
+            Set<Long> removed = ConcurrentHashMap.newKeySet();
+            List<Runnable> workers = new ArrayList<>();
+            for (long agent = 1; agent <= AGENTS; agent++) {
+                long assigneeId = agent;
+                boolean byId = agent % 2 == 0;
+                workers.add(() -> {
+                    if (byId) {
+                        // Goes after specific tickets, including ones other agents or the closer are taking
+                        for (long ticketId = assigneeId; ticketId <= TICKETS; ticketId += 3) {
+                            record(queue.claim(ticketId, assigneeId), assigneeId, winners, duplicates);
+                        }
+                    }
+                    TicketAssignmentQueue.Entry entry;
+                    while ((entry = queue.claimNext(assigneeId)) != null) {
+                        record(entry, assigneeId, winners, duplicates);
+                    }
+                });
+            }
+            workers.add(() -> {
+                for (int i = 0; i < TICKETS / 2; i++) {
+                    long ticketId = ThreadLocalRandom.current().nextLong(1, TICKETS + 1);
+                    queue.remove(ticketId);
+                    removed.add(ticketId);
+                }
+            });
+
+            runConcurrently(workers);
+
+            assertThat(duplicates).as("tickets claimed twice in round %d", round).isEmpty();
+            assertThat(queue.waitingByPriority().values()).allMatch(count -> count == 0);
+            for (long agent = 1; agent <= AGENTS; agent++) {
+                long assigneeId = agent;
+                long expected = winners.entrySet().stream()
+                        .filter(win -> win.getValue() == assigneeId && !removed.contains(win.getKey()))
+                        .count();
+                assertThat(queue.loadOf(assigneeId)).as("load of agent %d in round %d", assigneeId, round)
+                        .isEqualTo(expected);
+            }
+
+            for (long ticketId = 1; ticketId <= TICKETS; ticketId++) {
+                queue.remove(ticketId);
+            }
+            assertThat(queue.loadByAssignee()).as("load left after closing everything in round %d", round).isEmpty();
+        }
+    }
+
+    private static void record(TicketAssignmentQueue.Entry entry, Long assigneeId,
+                               Map<Long, Long> winners, Set<Long> duplicates) {
+        if (entry != null && winners.putIfAbsent(entry.getTicketId(), assigneeId) != null) {
+            duplicates.add(entry.getTicketId());
+        }
+    }
+
+    private static void runConcurrently(List<Runnable> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Runnable task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}